@@ -1,10 +1,9 @@
 package ru.sbtqa.tag.pagefactory;
 
-import com.google.common.reflect.ClassPath;
-
-import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -12,7 +11,6 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.reflect.ConstructorUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
@@ -21,6 +19,7 @@ import ru.sbtqa.tag.pagefactory.context.PageContext;
 import ru.sbtqa.tag.pagefactory.environment.Environment;
 import ru.sbtqa.tag.pagefactory.exceptions.PageInitializationException;
 import ru.sbtqa.tag.pagefactory.properties.Configuration;
+import ru.sbtqa.tag.pagefactory.utils.ClassIndexUtils;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
 import ru.sbtqa.tag.qautils.reflect.FieldUtilsExt;
 
@@ -28,15 +27,20 @@ public class PageManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(PageManager.class);
 
-    private static final ThreadLocal<Map<Class<? extends Page>, Map<Field, String>>> PAGES_REPOSITORY
-            = ThreadLocal.withInitial(HashMap::new);
     private static final Configuration PROPERTIES = Configuration.create();
 
+    /**
+     * Page metadata shared by all threads. It is built once and never modified
+     * afterwards, so it is read without locking. Only the current page is kept
+     * per thread (see {@link PageContext})
+     */
+    private static volatile PagesRegistry registry;
+
     private PageManager() {
     }
 
     public static Map<Class<? extends Page>, Map<Field, String>> getPageRepository() {
-        return PAGES_REPOSITORY.get();
+        return getRegistry().pages;
     }
 
     /**
@@ -103,24 +107,32 @@ public class PageManager {
     }
 
     private static Class<? extends Page> getPageClass(String title) {
-        for (Map.Entry<Class<? extends Page>, Map<Field, String>> pageEntry : PAGES_REPOSITORY.get().entrySet()) {
-            Class<? extends Page> page = pageEntry.getKey();
-            String pageTitle = null;
-            if (null != page.getAnnotation(PageEntry.class)) {
-                pageTitle = page.getAnnotation(PageEntry.class).title();
-            } else {
-                try {
-                    pageTitle = (String) FieldUtils.readStaticField(page, "title", true);
-                } catch (IllegalArgumentException | IllegalAccessException ex) {
-                    LOG.debug("Failed to read {} because it is not page object", title, ex);
-                }
-            }
-            if (pageTitle != null && pageTitle.equals(title)) {
-                return page;
+        return getRegistry().titles.get(title);
+    }
+
+    /**
+     * Get page title declared by {@link PageEntry} annotation or by static
+     * {@code title} field declared by the class itself
+     *
+     * @param page a page class
+     * @return the page title or {@code null} if the class is not a page object
+     */
+    private static String getPageTitle(Class<?> page) {
+        PageEntry pageEntry = page.getAnnotation(PageEntry.class);
+        if (null != pageEntry) {
+            return pageEntry.title();
+        }
+        try {
+            Field titleField = page.getDeclaredField("title");
+            if (!Modifier.isStatic(titleField.getModifiers())) {
+                return null;
             }
+            titleField.setAccessible(true);
+            return (String) titleField.get(null);
+        } catch (NoSuchFieldException | SecurityException | IllegalAccessException | ClassCastException ex) {
+            LOG.debug("Failed to read title of {} because it is not page object", page, ex);
+            return null;
         }
-
-        return null;
     }
 
     private static void setUrl(String url) {
@@ -129,7 +141,31 @@ public class PageManager {
         }
     }
 
+    /**
+     * Scan page package and cache pages metadata. The scan is performed only
+     * once per process, subsequent calls from any thread reuse its result
+     */
     public static void cachePages() {
+        getRegistry();
+    }
+
+    private static PagesRegistry getRegistry() {
+        PagesRegistry result = registry;
+        if (result == null) {
+            synchronized (PageManager.class) {
+                result = registry;
+                if (result == null) {
+                    result = buildRegistry();
+                    registry = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static PagesRegistry buildRegistry() {
+        Map<Class<? extends Page>, Map<Field, String>> pages = new HashMap<>();
+        Map<String, Class<? extends Page>> titles = new HashMap<>();
         for (Class<?> page : getAllClasses()) {
             List<Field> fields = FieldUtilsExt.getDeclaredFieldsWithInheritance(page);
             Map<Field, String> fieldsMap = new HashMap<>();
@@ -142,25 +178,37 @@ public class PageManager {
                 }
             }
 
-            PAGES_REPOSITORY.get().put((Class<? extends Page>) page, fieldsMap);
+            pages.put((Class<? extends Page>) page, Collections.unmodifiableMap(fieldsMap));
+
+            String title = getPageTitle(page);
+            if (title != null) {
+                Class<? extends Page> registered = titles.putIfAbsent(title, (Class<? extends Page>) page);
+                if (registered != null && registered != page) {
+                    throw new AutotestError("Page title '" + title + "' is declared by both '"
+                            + registered.getName() + "' and '" + page.getName() + "'. Page titles must be unique");
+                }
+            }
         }
+        return new PagesRegistry(pages, titles);
     }
 
     private static Set<Class<?>> getAllClasses() {
-        Set<Class<?>> allClasses = new HashSet<>();
-
         if (PROPERTIES.getPagesPackage() != null) {
-            ClassLoader loader = Thread.currentThread().getContextClassLoader();
-            try {
-                for (ClassPath.ClassInfo info : ClassPath.from(loader).getTopLevelClassesRecursive(PROPERTIES.getPagesPackage())) {
-                    allClasses.add(info.load());
-                }
-            } catch (IOException ex) {
-                LOG.warn("Failed to shape class info set", ex);
-            }
+            return ClassIndexUtils.getTopLevelClasses(ClassIndexUtils.PAGES_INDEX, PROPERTIES.getPagesPackage());
         } else {
             LOG.warn("page.package property is not set");
+            return new HashSet<>();
+        }
+    }
+
+    private static final class PagesRegistry {
+
+        private final Map<Class<? extends Page>, Map<Field, String>> pages;
+        private final Map<String, Class<? extends Page>> titles;
+
+        private PagesRegistry(Map<Class<? extends Page>, Map<Field, String>> pages, Map<String, Class<? extends Page>> titles) {
+            this.pages = Collections.unmodifiableMap(pages);
+            this.titles = Collections.unmodifiableMap(titles);
         }
-        return allClasses;
     }
 }
@@ -12,18 +12,24 @@ import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * Utility to inject allure categories at runtime.
  * <p>
  * It applies the only unique category names. If categories are predefined by user, donn't override it.
+ * Injected categories are collected in memory and written to the categories file once, at the end of
+ * the test run or at shutdown.
  */
 public class CategoriesInjector {
     private static final Logger LOG = LoggerFactory.getLogger(CategoriesInjector.class);
-    private static final List<Category> updatedCategories = Collections.synchronizedList(new ArrayList<>());
+    private static final Set<Category> injectedCategories = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean dirty = new AtomicBoolean();
+    private static final AtomicBoolean hookRegistered = new AtomicBoolean();
 
     private CategoriesInjector() {
     }
@@ -36,20 +42,32 @@ public class CategoriesInjector {
      * @param category categories to inject
      */
     public static void inject(Category... category) {
-        synchronized (updatedCategories) {
-            List<Category> categoryList = Arrays.stream(category)
-                    .filter(categoryToUpdate -> !updatedCategories.contains(categoryToUpdate))
-                    .collect(Collectors.toList());
+        boolean added = false;
+        for (Category categoryToInject : category) {
+            added |= injectedCategories.add(categoryToInject);
+        }
+        if (added) {
+            dirty.set(true);
+            if (hookRegistered.compareAndSet(false, true)) {
+                Runtime.getRuntime().addShutdownHook(new Thread(CategoriesInjector::flush));
+            }
+        }
+    }
+
+    /**
+     * Write injected categories to the categories file, if there are new ones since the previous flush
+     */
+    public static synchronized void flush() {
+        if (dirty.compareAndSet(true, false)) {
             try {
-                applyUserCategories(categoryList);
-                updatedCategories.addAll(categoryList);
+                applyUserCategories(new ArrayList<>(injectedCategories));
             } catch (IOException e) {
                 LOG.warn("Cannot inject categories", e);
             }
         }
     }
 
-    private static synchronized void applyUserCategories(List<Category> categories) throws IOException {
+    private static void applyUserCategories(List<Category> categories) throws IOException {
         Gson gson = new Gson();
         List<Category> userCategories = new ArrayList<>();
         InputStream in = CategoriesInjector.class.getClassLoader()
@@ -15,22 +15,39 @@ import ru.sbtqa.tag.pagefactory.properties.Configuration;
 import ru.sbtqa.tag.pagefactory.utils.MD5;
 import ru.sbtqa.tag.qautils.i18n.I18N;
 
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class JunitReporter {
 
     private static final Configuration PROPERTIES = Configuration.create();
+    private static final Locale LOCALE = Locale.forLanguageTag(PROPERTIES.getJunitLang());
+    private static final Map<String, String> STEP_NAMES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<int[]> CUCUMBER_STEP_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
-    public static Object handleStep(ProceedingJoinPoint joinPoint) throws Throwable {
-        // FIXME: need to get another way to filter junit only steps cuz getStackTrace is very hard
-        boolean isFromCucumber = Arrays.stream(
-                Thread.currentThread().getStackTrace()
-        ).anyMatch(stackTraceElement -> stackTraceElement.getClassName()
-                .matches("ru\\.sbtqa\\.tag\\.stepdefs\\.[en.|ru.].*"));
+    /**
+     * Run a cucumber step definition. Steps called from it are not reported
+     * as junit steps
+     *
+     * @param joinPoint step definition execution
+     * @return result of the step definition
+     * @throws Throwable if the step definition fails
+     */
+    public static Object handleCucumberStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = CUCUMBER_STEP_DEPTH.get();
+        depth[0]++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            depth[0]--;
+        }
+    }
 
-        if (isFromCucumber) {
+    public static Object handleStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (CUCUMBER_STEP_DEPTH.get()[0] > 0) {
             return joinPoint.proceed();
         } else {
             boolean isTestCaseStarted = Allure.getLifecycle().getCurrentTestCase().isPresent();
@@ -45,7 +62,7 @@ public class JunitReporter {
             // I18n contains template for steps as <methodName><dot><argsCount>. For example: fill.2
             String methodNameWithArgsCount = methodName + "." + args.length;
 
-            String stepUid = createUid(joinPoint);
+            String stepUid = createUid();
             String stepNameI18n = getStepNameI18n(joinPoint, methodNameWithArgsCount);
             // if step has i18n template - substitute args to it
             String stepName = String.format((stepNameI18n.equals(methodNameWithArgsCount) ? methodName : stepNameI18n), args);
@@ -60,25 +77,25 @@ public class JunitReporter {
                         stepResult.setStatus(Status.FAILED).setStatusDetails(new StatusDetails().setTrace(ExceptionUtils.getStackTrace(t)).setMessage(t.getMessage())));
                 throw t;
             } finally {
-                attachParameters(methodName, args, createUid(joinPoint), stepName);
+                attachParameters(methodName, args, stepUid, stepName);
                 Allure.getLifecycle().stopStep(stepUid);
             }
         }
     }
 
     private static String getStepNameI18n(ProceedingJoinPoint joinPoint, String method) {
-        Locale locale = Locale.forLanguageTag(PROPERTIES.getJunitLang());
         Class clazz = joinPoint.getSignature().getDeclaringType();
+        String key = clazz.getName() + "#" + method;
 
-        I18N i18n = I18N.getI18n(clazz, locale);
-
-        return i18n.get(method);
+        String stepName = STEP_NAMES.get(key);
+        if (stepName == null) {
+            stepName = STEP_NAMES.computeIfAbsent(key, k -> I18N.getI18n(clazz, LOCALE).get(method));
+        }
+        return stepName;
     }
 
-    private static String createUid(ProceedingJoinPoint joinPoint) throws NoSuchAlgorithmException {
-        return MD5.hash(joinPoint.getSignature().toLongString()
-                + Arrays.toString(normalizeArgs(joinPoint.getArgs()))
-                + System.currentTimeMillis());
+    private static String createUid() {
+        return UUID.randomUUID().toString();
     }
 
     private static Object[] normalizeArgs(Object[] args) {
@@ -0,0 +1,44 @@
+package ru.sbtqa.tag.pagefactory.allure;
+
+import static io.qameta.allure.util.ResultsUtils.md5;
+
+import cucumber.api.TestCase;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.TestResult;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Allure listener that remembers uuids of scheduled test results by their
+ * history id, which is the hash of the test case location. It is registered
+ * as a service, so allure lifecycle loads it by itself
+ */
+public class TestCaseUuids implements TestLifecycleListener {
+
+    private static final Map<String, String> UUIDS = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterTestSchedule(TestResult result) {
+        if (result.getHistoryId() != null && result.getUuid() != null) {
+            UUIDS.put(result.getHistoryId(), result.getUuid());
+        }
+    }
+
+    @Override
+    public void afterTestWrite(TestResult result) {
+        if (result.getHistoryId() != null && result.getUuid() != null) {
+            UUIDS.remove(result.getHistoryId(), result.getUuid());
+        }
+    }
+
+    /**
+     * Get uuid of the allure test result of the test case
+     *
+     * @param testCase running test case
+     * @return uuid of the test result, or the history id of the test case if it was not scheduled
+     */
+    public static String getUuid(TestCase testCase) {
+        String historyId = md5(testCase.getUri() + ":" + testCase.getLine());
+        return UUIDS.getOrDefault(historyId, historyId);
+    }
+}
@@ -43,32 +43,26 @@ public class CriticalStepAspect {
     public Object argumentOffset(ProceedingJoinPoint joinPoint, List<Argument> arguments, StepDefinition stepDefinition,
                                  String featurePath, PickleStep step, LocalizedXStreams localizedXStreams) throws Throwable {
 
-        List<Argument> shiftedArguments = new ArrayList<>();
-        for (Argument argument : arguments) {
-            String argValue = argument.getVal();
+        if (!(step instanceof PickleStepCustom) || ((PickleStepCustom) step).isCritical()) {
+            return joinPoint.proceed();
+        }
 
-            if (isReplaceableArgument(step, argument)) {
-                int offset = step.getText().indexOf(argValue) + NON_CRITICAL.length();
-                argument = new Argument(offset, argValue);
-            }
-            shiftedArguments.add(argument);
+        int shift = ((PickleStepCustom) step).getArgumentShift();
+        List<Argument> shiftedArguments = new ArrayList<>(arguments.size());
+        for (Argument argument : arguments) {
+            shiftedArguments.add(argument.getVal() == null ? argument
+                    : new Argument(argument.getOffset() + shift, argument.getVal()));
         }
         return joinPoint.proceed(new Object[]{shiftedArguments, stepDefinition, featurePath, step, localizedXStreams});
     }
 
-    private boolean isReplaceableArgument(PickleStep step, Argument argument) {
-        return argument.getVal() != null
-                && step instanceof PickleStepCustom && !((PickleStepCustom) step).isCritical();
-    }
-
     @Around("getSnippet(step)")
     public String getSnippet(ProceedingJoinPoint joinPoint, PickleStep step) throws Throwable {
         String stepText = step.getText();
         String jpResult = (String) joinPoint.proceed();
 
         String replaceableTextRegExp = "\\\\\\\\\\" + stepText.substring(0, stepText.indexOf("\""));
-        String replaced = stepText.replaceFirst("\\" + NON_CRITICAL, "");
-        replaced = replaced.substring(0, replaced.indexOf("\""));
+        String replaced = stepText.substring(NON_CRITICAL.length(), stepText.indexOf("\""));
         return jpResult.replaceFirst(replaceableTextRegExp, replaced);
     }
 }
@@ -1,25 +1,17 @@
 package ru.sbtqa.tag.pagefactory.aspects;
 
-import static io.qameta.allure.util.ResultsUtils.md5;
-import static org.apache.commons.lang3.reflect.FieldUtils.readDeclaredField;
-
 import cucumber.api.Result;
 import cucumber.api.TestCase;
 import cucumber.api.TestStep;
 import cucumber.api.event.TestCaseFinished;
+import cucumber.api.event.TestRunFinished;
 import cucumber.api.event.TestStepFinished;
 import cucumber.runtime.Match;
 import cucumber.runtime.StepDefinitionMatch;
 import gherkin.pickles.PickleStep;
 import io.qameta.allure.Allure;
-import io.qameta.allure.internal.AllureStorage;
 import io.qameta.allure.model.Status;
-import io.qameta.allure.model.TestResult;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Map;
-import java.util.Optional;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -27,16 +19,17 @@ import org.aspectj.lang.annotation.Pointcut;
 import ru.sbtqa.tag.pagefactory.allure.CategoriesInjector;
 import ru.sbtqa.tag.pagefactory.allure.Category;
 import ru.sbtqa.tag.pagefactory.allure.ErrorHandler;
+import ru.sbtqa.tag.pagefactory.allure.TestCaseUuids;
 import ru.sbtqa.tag.pagefactory.environment.Environment;
 import ru.sbtqa.tag.pagefactory.exceptions.AllureNonCriticalError;
-import ru.sbtqa.tag.pagefactory.exceptions.ReadFieldError;
 import ru.sbtqa.tag.pagefactory.optional.PickleStepCustom;
+import ru.sbtqa.tag.pagefactory.reflection.FieldAccessor;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
 
 @Aspect
 public class CriticalStepCheckAspect {
-    private static final String STEP_FIELD_NAME = "step";
-    private static final String DEFINITION_FIELD_NAME = "definitionMatch";
+    private static final FieldAccessor MATCH_STEP = FieldAccessor.of(StepDefinitionMatch.class, "step");
+    private static final FieldAccessor DEFINITION_MATCH = FieldAccessor.of(TestStep.class, "definitionMatch");
 
     private static final String NON_CRITICAL_CATEGORY_NAME = "Non-critical failures";
     private static final String NON_CRITICAL_CATEGORY_MESSAGE = "Some steps ended with non-critical errors";
@@ -59,10 +52,14 @@ public class CriticalStepCheckAspect {
         return event.result.isOk(true);
     }
 
+    @Pointcut("execution(* cucumber.runner.EventBus.send(..)) && args(event,..)")
+    public void sendRunFinished(TestRunFinished event) {
+    }
+
     @Around("runStep()")
     public void runStep(ProceedingJoinPoint joinPoint) throws Throwable {
         Match match = (Match) joinPoint.getThis();
-        PickleStep step = (PickleStep) FieldUtils.readField(match, STEP_FIELD_NAME, true);
+        PickleStep step = (PickleStep) MATCH_STEP.get(match);
 
         try {
             joinPoint.proceed();
@@ -88,6 +85,12 @@ public class CriticalStepCheckAspect {
         CategoriesInjector.inject(nonCriticalCategory);
     }
 
+    @Around("sendRunFinished(event)")
+    public void sendRunFinished(ProceedingJoinPoint joinPoint, TestRunFinished event) throws Throwable {
+        joinPoint.proceed();
+        CategoriesInjector.flush();
+    }
+
     @Around("sendCaseFinished(event)")
     public void sendCaseFinished(ProceedingJoinPoint joinPoint, TestCaseFinished event) throws Throwable {
         boolean hasFailedNonCriticalStep = hasFailedNonCriticalStep(event.testCase);
@@ -97,7 +100,7 @@ public class CriticalStepCheckAspect {
                     new AutotestError(NON_CRITICAL_CATEGORY_MESSAGE));
             event = new TestCaseFinished(event.getTimeStamp(), event.testCase, result);
 
-            Allure.getLifecycle().updateTestCase(getCurrentTestCaseUid(event.testCase),
+            Allure.getLifecycle().updateTestCase(TestCaseUuids.getUuid(event.testCase),
                     testResult -> testResult.setStatus(Status.PASSED));
 
             joinPoint.proceed(new Object[]{event});
@@ -131,23 +134,7 @@ public class CriticalStepCheckAspect {
     }
 
     private PickleStep getDefinitionMatchStep(TestStep testStep) {
-        try {
-            StepDefinitionMatch definitionMatch = (StepDefinitionMatch) FieldUtils.readField(testStep, DEFINITION_FIELD_NAME, true);
-            return (PickleStep) FieldUtils.readField(definitionMatch, STEP_FIELD_NAME, true);
-        } catch (IllegalAccessException ex) {
-            throw new ReadFieldError("Error reading the field");
-        }
-    }
-
-    private String getCurrentTestCaseUid(TestCase testCase) throws IllegalAccessException {
-        final String testCaseLocation = testCase.getUri() + ":" + testCase.getLine();
-        String uid = md5(testCaseLocation);
-
-        AllureStorage allureStorage = (AllureStorage) readDeclaredField(Allure.getLifecycle(), "storage", true);
-        Map<String, Object> storage = (Map<String, Object>) readDeclaredField(allureStorage, "storage", true);
-        Collection<Object> testResults = storage.values();
-        Optional<Object> testResultOptional = testResults.stream()
-                .filter(o -> o instanceof TestResult && ((TestResult) o).getHistoryId().equals(uid)).findFirst();
-        return testResultOptional.isPresent() ? ((TestResult) testResultOptional.get()).getUuid() : uid;
+        StepDefinitionMatch definitionMatch = (StepDefinitionMatch) DEFINITION_MATCH.get(testStep);
+        return (PickleStep) MATCH_STEP.get(definitionMatch);
     }
 }
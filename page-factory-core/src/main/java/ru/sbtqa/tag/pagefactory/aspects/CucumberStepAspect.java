@@ -0,0 +1,24 @@
+package ru.sbtqa.tag.pagefactory.aspects;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import ru.sbtqa.tag.pagefactory.allure.JunitReporter;
+
+@Aspect
+public class CucumberStepAspect {
+
+    @Pointcut("execution(public * ru.sbtqa.tag.stepdefs.en..*(..)) || execution(public * ru.sbtqa.tag.stepdefs.ru..*(..))")
+    public void stepDefinition() {
+    }
+
+    @Pointcut("execution(ru.sbtqa.tag.stepdefs.en..*.new(..)) || execution(ru.sbtqa.tag.stepdefs.ru..*.new(..))")
+    public void stepDefinitionInit() {
+    }
+
+    @Around("stepDefinition() || stepDefinitionInit()")
+    public Object handleStep(ProceedingJoinPoint joinPoint) throws Throwable {
+        return JunitReporter.handleCucumberStep(joinPoint);
+    }
+}
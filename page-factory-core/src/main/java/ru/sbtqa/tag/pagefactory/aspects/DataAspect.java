@@ -13,21 +13,25 @@ import gherkin.pickles.PickleStep;
 import gherkin.pickles.PickleTag;
 import java.util.List;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.data.DataBindingPlan;
+import ru.sbtqa.tag.pagefactory.data.DataFactory;
 import ru.sbtqa.tag.pagefactory.data.DataReplacer;
 import ru.sbtqa.tag.pagefactory.data.DataUtils;
 import ru.sbtqa.tag.pagefactory.optional.PickleStepCustom;
+import ru.sbtqa.tag.pagefactory.reflection.FieldAccessor;
 
 @Aspect
 public class DataAspect {
 
     private static final Logger LOG = LoggerFactory.getLogger(DataAspect.class);
+    private static final FieldAccessor TEST_STEP_STEP = FieldAccessor.of(PickleTestStep.class, "step");
+    private static final FieldAccessor DEFINITION_MATCH = FieldAccessor.of(TestStep.class, "definitionMatch");
 
     @Pointcut("execution(* cucumber.runner.EventBus.send(..)) && args(event,..) && if()")
     public static boolean sendStepStart(TestStepStarted event) {
@@ -53,42 +57,48 @@ public class DataAspect {
 
     @Around("sendCaseStart(event)")
     public Object run(ProceedingJoinPoint joinPoint, TestCaseStarted event) throws Throwable {
+        DataFactory.resetCollection();
         List<PickleTag> tags = event.testCase.getTags().stream()
                 .filter(pickleTag -> pickleTag.getName().startsWith(DataUtils.DATA_TAG))
                 .collect(Collectors.toList());
 
-        if (!tags.isEmpty()) {
-            String dataTagName = tags.get(tags.size() - 1).getName();
-            String data = DataUtils.getDataTagValue(dataTagName);
+        String data = tags.isEmpty() ? null : DataUtils.getDataTagValue(tags.get(tags.size() - 1).getName());
 
-            for (TestStep step : event.testCase.getTestSteps()) {
-                if (!step.isHook()) {
-                    PickleStepCustom stepCustom = changePickleStep(step.getPickleStep());
+        for (TestStep step : event.testCase.getTestSteps()) {
+            if (!step.isHook()) {
+                PickleStepCustom stepCustom = getPickleStepCustom(step);
+                if (data != null) {
                     stepCustom.setData(data);
-                    writePickleStep(step, stepCustom);
                 }
+                stepCustom.setBindingPlan(DataBindingPlan.of((PickleTestStep) step));
             }
         }
         return joinPoint.proceed();
     }
 
-    private void writePickleStep(TestStep step, PickleStepCustom pickleStep) throws IllegalAccessException {
-        FieldUtils.writeField(step, "step", pickleStep, true);
-    }
-
     @Around("run(bus,language,scenario,skipSteps)")
     public Object run(ProceedingJoinPoint joinPoint, EventBus bus, String language, Scenario scenario, boolean skipSteps) throws Throwable {
         TestStep testStep = (TestStep) joinPoint.getThis();
         if (!testStep.isHook()) {
-            PickleStepCustom stepCustom = changePickleStep(testStep.getPickleStep());
-            stepCustom.setSkipped(skipSteps);
-            writePickleStep(testStep, stepCustom);
+            getPickleStepCustom(testStep).setSkipped(skipSteps);
         }
         return joinPoint.proceed();
     }
 
-    private PickleStepCustom changePickleStep(PickleStep step) {
-        return step instanceof PickleStepCustom ? (PickleStepCustom) step : new PickleStepCustom(step);
+    /**
+     * Get context of the test step, wrapping its pickle step only once
+     *
+     * @param testStep pickle test step
+     * @return context of the test step
+     */
+    private PickleStepCustom getPickleStepCustom(TestStep testStep) {
+        PickleStep step = testStep.getPickleStep();
+        if (step instanceof PickleStepCustom) {
+            return (PickleStepCustom) step;
+        }
+        PickleStepCustom stepCustom = new PickleStepCustom(step);
+        TEST_STEP_STEP.set(testStep, stepCustom);
+        return stepCustom;
     }
 
     @Around("executeStep(language,scenario,skipSteps)")
@@ -96,7 +106,7 @@ public class DataAspect {
         TestStep testStep = (TestStep) joinPoint.getThis();
         if (hasError(testStep)) {
             PickleStepCustom pickleStepCustom = (PickleStepCustom) testStep.getPickleStep();
-            Match definitionMatch = (Match) FieldUtils.readField(testStep, "definitionMatch", true);
+            Match definitionMatch = (Match) DEFINITION_MATCH.get(testStep);
             if (definitionMatch.getClass().equals(StepDefinitionMatch.class)) {
                 throw pickleStepCustom.getError();
             } else {
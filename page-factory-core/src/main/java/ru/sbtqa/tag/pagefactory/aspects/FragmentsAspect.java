@@ -9,15 +9,16 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import ru.sbtqa.tag.pagefactory.fragments.FeaturesCache;
 import ru.sbtqa.tag.pagefactory.fragments.FragmentReplacer;
 import ru.sbtqa.tag.pagefactory.properties.Configuration;
+import ru.sbtqa.tag.pagefactory.utils.FeatureParallelUtils;
 import ru.sbtqa.tag.pagefactory.utils.GherkinSerializer;
 
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import static cucumber.runtime.model.CucumberFeature.load;
-
 @Aspect
 public class FragmentsAspect {
 
@@ -31,18 +32,25 @@ public class FragmentsAspect {
     public Object replaceSteps(ProceedingJoinPoint joinPoint, ResourceLoader resourceLoader, EventBus bus) throws Throwable {
         if (PROPERTIES.isFragmentsEnabled()) {
             RuntimeOptions runtimeOptions = (RuntimeOptions) joinPoint.getTarget();
-            List<CucumberFeature> cucumberFeatures = load(resourceLoader, runtimeOptions.getFeaturePaths(), System.out);
+            List<CucumberFeature> cucumberFeatures = FeatureParallelUtils.load(resourceLoader, runtimeOptions.getFeaturePaths(), System.out);
 
             // filter out empty files
             cucumberFeatures = cucumberFeatures.stream()
                     .filter(cucumberFeature -> cucumberFeature.getGherkinFeature().getFeature() != null)
                     .collect(Collectors.toList());
 
-            FragmentReplacer fragmentReplacer = new FragmentReplacer(cucumberFeatures);
-            fragmentReplacer.replace();
+            if (PROPERTIES.isFragmentsCacheEnabled()) {
+                cucumberFeatures = new FeaturesCache(Paths.get(PROPERTIES.getFragmentsCachePath())).expand(cucumberFeatures);
+            } else {
+                FragmentReplacer fragmentReplacer = new FragmentReplacer(cucumberFeatures);
+                fragmentReplacer.replace();
 
-            // reserealize and align all features
-            cucumberFeatures = new GherkinSerializer().reserializeFeatures(cucumberFeatures);
+                // reserealize and align all features
+                GherkinSerializer serializer = new GherkinSerializer();
+                cucumberFeatures = PROPERTIES.isFragmentsReparseEnabled()
+                        ? serializer.reserializeFeatures(cucumberFeatures)
+                        : serializer.realignFeatures(cucumberFeatures);
+            }
 
             runtimeOptions.getPlugins(); // to create the formatter objects
             bus.send(new TestRunStarted(bus.getTime()));
@@ -0,0 +1,100 @@
+package ru.sbtqa.tag.pagefactory.data;
+
+import cucumber.runner.PickleTestStep;
+import cucumber.runtime.Argument;
+import gherkin.pickles.PickleCell;
+import gherkin.pickles.PickleRow;
+import gherkin.pickles.PickleStep;
+import gherkin.pickles.PickleString;
+import gherkin.pickles.PickleTable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Slots of a pickle step that hold data or stash placeholders: step text,
+ * step definition arguments, doc strings and data table cells. The plan is
+ * computed once per step when the test case starts, so only these slots are
+ * replaced when the step starts
+ */
+public class DataBindingPlan {
+
+    private static final DataBindingPlan EMPTY = new DataBindingPlan(false, false,
+            Collections.emptyList(), Collections.emptyList());
+
+    private final boolean text;
+    private final boolean arguments;
+    private final List<PickleString> docStrings;
+    private final List<PickleCell> cells;
+
+    private DataBindingPlan(boolean text, boolean arguments, List<PickleString> docStrings, List<PickleCell> cells) {
+        this.text = text;
+        this.arguments = arguments;
+        this.docStrings = docStrings;
+        this.cells = cells;
+    }
+
+    /**
+     * Find slots of the step that hold placeholders
+     *
+     * @param testStep step to plan
+     * @return binding plan of the step
+     */
+    public static DataBindingPlan of(PickleTestStep testStep) {
+        PickleStep step = testStep.getPickleStep();
+
+        boolean text = hasPlaceholders(step.getText());
+        boolean arguments = false;
+        if (text) {
+            for (Argument argument : testStep.getDefinitionArgument()) {
+                arguments |= argument.getVal() != null && hasPlaceholders(argument.getVal());
+            }
+        }
+
+        List<PickleString> docStrings = new ArrayList<>();
+        List<PickleCell> cells = new ArrayList<>();
+        for (gherkin.pickles.Argument argument : step.getArgument()) {
+            if (argument.getClass().equals(PickleTable.class)) {
+                for (PickleRow row : ((PickleTable) argument).getRows()) {
+                    for (PickleCell cell : row.getCells()) {
+                        if (hasPlaceholders(cell.getValue())) {
+                            cells.add(cell);
+                        }
+                    }
+                }
+            } else if (argument.getClass().equals(PickleString.class)
+                    && hasPlaceholders(((PickleString) argument).getContent())) {
+                docStrings.add((PickleString) argument);
+            }
+        }
+
+        if (!text && docStrings.isEmpty() && cells.isEmpty()) {
+            return EMPTY;
+        }
+        return new DataBindingPlan(text, arguments, docStrings, cells);
+    }
+
+    private static boolean hasPlaceholders(String value) {
+        return PlaceholderTemplate.data(value).hasPlaceholders() || PlaceholderTemplate.stash(value).hasPlaceholders();
+    }
+
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    public boolean hasTextPlaceholders() {
+        return text;
+    }
+
+    public boolean hasArgumentPlaceholders() {
+        return arguments;
+    }
+
+    public List<PickleString> getDocStrings() {
+        return docStrings;
+    }
+
+    public List<PickleCell> getCells() {
+        return cells;
+    }
+}
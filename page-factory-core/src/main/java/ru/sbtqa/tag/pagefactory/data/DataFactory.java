@@ -1,5 +1,7 @@
 package ru.sbtqa.tag.pagefactory.data;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.mongodb.DB;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientURI;
@@ -13,6 +15,7 @@ import ru.sbtqa.tag.datajack.TestDataProvider;
 import ru.sbtqa.tag.datajack.callback.GeneratorCallback;
 import ru.sbtqa.tag.datajack.exceptions.DataException;
 import ru.sbtqa.tag.pagefactory.properties.Configuration;
+import ru.sbtqa.tag.qautils.errors.AutotestError;
 
 import static java.lang.String.format;
 
@@ -20,8 +23,13 @@ public class DataFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(DataFactory.class);
     private static final Configuration PROPERTIES = Configuration.create();
-    private static TestDataProvider testDataProvider;
     private static final String BASE_FQDN = "ru.sbtqa.tag.datajack.providers.";
+    private static final long VALUES_CACHE_SIZE = 10_000;
+
+    private static final ThreadLocal<ProviderState> SCENARIO_STATE = new ThreadLocal<>();
+
+    private static volatile ProviderState initialState;
+    private static volatile Class<? extends GeneratorCallback> generator;
 
     private enum PROVIDERS {
         JSON_DATA_PROVIDER("json.JsonDataProvider"),
@@ -44,64 +52,169 @@ public class DataFactory {
     private DataFactory() {
     }
 
+    /**
+     * Get data provider of the current collection. The provider is created
+     * and the generator is applied to it once, on the first call
+     *
+     * @return data provider or {@code null} if data provider isn't set
+     * @throws DataException if the provider can not be initialized
+     */
     public static TestDataProvider getDataProvider() throws DataException {
-        if (testDataProvider == null) {
-            String initialCollection = PROPERTIES.getDataInitialCollection();
-            String dataFolder = PROPERTIES.getDataFolder();
-            String dataType = PROPERTIES.getDataType();
-            String dataExtension = PROPERTIES.getDataExtension();
-
-
-            switch (dataType) {
-                case "json":
-                    testDataProvider = initProvider(PROVIDERS.JSON_DATA_PROVIDER,
-                            dataFolder,
-                            initialCollection,
-                            (dataExtension.equals("")) ? "json" : dataExtension
-                    );
-                    break;
-                case "properties":
-                    testDataProvider = initProvider(PROVIDERS.PROPERTIES_DATA_PROVIDER,
-                            dataFolder,
-                            initialCollection,
-                            (dataExtension.equals("")) ? "properties" : dataExtension,
-                            PROPERTIES.getDataArrayDelimiter()
-                    );
-                    break;
-                case "excel":
-                    testDataProvider = initProvider(PROVIDERS.EXCEL_DATA_PROVIDER,
-                            dataFolder,
-                            initialCollection
-                    );
-                    break;
-                case "mongo":
-                    MongoClient mongoClient = new MongoClient(new MongoClientURI(PROPERTIES.getDataUri()));
-                    DB db = mongoClient.getDB(PROPERTIES.getDataDb());
-
-                    testDataProvider = initProvider(PROVIDERS.MONGO_DATA_PROVIDER, db, initialCollection);
-                    break;
-                case "stash":
-                    LOG.debug("Data provider isnt't set. Leaving all placeholders as is.");
-                    break;
-                default:
-                    throw new DataException(format("Data provider %s isn't supported", dataType));
-            }
+        return getState().provider;
+    }
+
+    /**
+     * Get value of the current collection by path like
+     * {@code $Collection{path}}. Values are cached until the collection is
+     * changed via {@link #updateCollection(TestDataProvider)}, unless a
+     * generator is set (generated values may differ from call to call)
+     *
+     * @param path data path
+     * @return resolved value
+     * @throws DataException if the value can not be resolved
+     */
+    public static String getValueByPath(String path) throws DataException {
+        ProviderState current = getState();
+        if (current.values == null) {
+            return current.provider.getByPath(path).getValue();
         }
-        if (!PROPERTIES.getGeneratorsClass().isEmpty()) {
-            String className = PROPERTIES.getGeneratorsClass();
-            try {
-                testDataProvider.applyGenerator((Class<? extends GeneratorCallback>) DataFactory.class.getClassLoader().loadClass(className));
-            } catch (ClassNotFoundException e) {
-                throw new DataException(format("Could not find generators class at classpath: %s", className));
-            } catch (ClassCastException ex) {
-                throw new ClassCastException(format("Class %s doesn't extend %s", className, GeneratorCallback.class.getName()));
-            }
+
+        String value = current.values.getIfPresent(path);
+        if (value == null) {
+            value = current.provider.getByPath(path).getValue();
+            current.values.put(path, value);
         }
-        return testDataProvider;
+        return value;
+    }
+
+    /**
+     * Switch the current thread back to the initial collection. Called when a
+     * test case starts, so scenarios running in parallel do not share their
+     * collections and cached values
+     */
+    public static void resetCollection() {
+        SCENARIO_STATE.remove();
     }
 
+    /**
+     * Switch collection of the scenario running in the current thread
+     *
+     * @param newObject data provider of the collection
+     */
     public static void updateCollection(TestDataProvider newObject) {
-        testDataProvider = newObject;
+        try {
+            updateCollection(newObject, null);
+        } catch (DataException ex) {
+            throw new AutotestError(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Switch collection of the scenario running in the current thread to
+     * collection of the data tag. Does nothing if the current collection was
+     * taken from the same tag, so cached values are kept
+     *
+     * @param tag data tag value like {@code $Collection{path}}
+     * @throws DataException if the collection can not be resolved
+     */
+    public static void updateCollection(String tag) throws DataException {
+        ProviderState current = getState();
+        if (!tag.equals(current.tag)) {
+            updateCollection(current.provider.getByPath(tag), tag);
+        }
+    }
+
+    private static void updateCollection(TestDataProvider newObject, String tag) throws DataException {
+        getInitialState();
+        if (newObject != null && generator != null) {
+            newObject.applyGenerator(generator);
+        }
+        SCENARIO_STATE.set(new ProviderState(newObject, tag, generator == null));
+    }
+
+    private static ProviderState getState() throws DataException {
+        ProviderState current = SCENARIO_STATE.get();
+        return current != null ? current : getInitialState();
+    }
+
+    private static ProviderState getInitialState() throws DataException {
+        ProviderState current = initialState;
+        if (current == null) {
+            synchronized (DataFactory.class) {
+                current = initialState;
+                if (current == null) {
+                    generator = loadGenerator();
+                    TestDataProvider provider = createProvider();
+                    if (provider != null && generator != null) {
+                        provider.applyGenerator(generator);
+                    }
+                    current = new ProviderState(provider, null, generator == null);
+                    initialState = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static TestDataProvider createProvider() throws DataException {
+        String initialCollection = PROPERTIES.getDataInitialCollection();
+        String dataFolder = PROPERTIES.getDataFolder();
+        String dataType = PROPERTIES.getDataType();
+        String dataExtension = PROPERTIES.getDataExtension();
+
+        TestDataProvider provider;
+        switch (dataType) {
+            case "json":
+                provider = initProvider(PROVIDERS.JSON_DATA_PROVIDER,
+                        dataFolder,
+                        initialCollection,
+                        (dataExtension.equals("")) ? "json" : dataExtension
+                );
+                break;
+            case "properties":
+                provider = initProvider(PROVIDERS.PROPERTIES_DATA_PROVIDER,
+                        dataFolder,
+                        initialCollection,
+                        (dataExtension.equals("")) ? "properties" : dataExtension,
+                        PROPERTIES.getDataArrayDelimiter()
+                );
+                break;
+            case "excel":
+                provider = initProvider(PROVIDERS.EXCEL_DATA_PROVIDER,
+                        dataFolder,
+                        initialCollection
+                );
+                break;
+            case "mongo":
+                MongoClient mongoClient = new MongoClient(new MongoClientURI(PROPERTIES.getDataUri()));
+                DB db = mongoClient.getDB(PROPERTIES.getDataDb());
+
+                provider = initProvider(PROVIDERS.MONGO_DATA_PROVIDER, db, initialCollection);
+                break;
+            case "stash":
+                LOG.debug("Data provider isnt't set. Leaving all placeholders as is.");
+                provider = null;
+                break;
+            default:
+                throw new DataException(format("Data provider %s isn't supported", dataType));
+        }
+        return provider;
+    }
+
+    private static Class<? extends GeneratorCallback> loadGenerator() throws DataException {
+        String className = PROPERTIES.getGeneratorsClass();
+        if (className.isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> generatorClass = DataFactory.class.getClassLoader().loadClass(className);
+            if (!GeneratorCallback.class.isAssignableFrom(generatorClass)) {
+                throw new ClassCastException(format("Class %s doesn't extend %s", className, GeneratorCallback.class.getName()));
+            }
+            return (Class<? extends GeneratorCallback>) generatorClass;
+        } catch (ClassNotFoundException e) {
+            throw new DataException(format("Could not find generators class at classpath: %s", className));
+        }
     }
 
     private static TestDataProvider initProvider(PROVIDERS provider, Object... args) throws DataException {
@@ -116,4 +229,16 @@ public class DataFactory {
         }
     }
 
+    private static class ProviderState {
+
+        private final TestDataProvider provider;
+        private final String tag;
+        private final Cache<String, String> values;
+
+        private ProviderState(TestDataProvider provider, String tag, boolean cacheValues) {
+            this.provider = provider;
+            this.tag = tag;
+            this.values = cacheValues ? CacheBuilder.newBuilder().maximumSize(VALUES_CACHE_SIZE).build() : null;
+        }
+    }
 }
\ No newline at end of file
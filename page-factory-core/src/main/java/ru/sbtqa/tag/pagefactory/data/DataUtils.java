@@ -10,11 +10,8 @@ import gherkin.ast.Tag;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import ru.sbtqa.tag.datajack.exceptions.DataException;
 import ru.sbtqa.tag.pagefactory.properties.Configuration;
-import static ru.sbtqa.tag.datajack.providers.AbstractDataProvider.PATH_PARSE_REGEX;
 
 public class DataUtils {
 
@@ -23,9 +20,7 @@ public class DataUtils {
     private static final String COLLECTION_SIGNATURE = "$";
 
     public static boolean isDataParameter(String dataParameter) {
-        Pattern stepDataPattern = Pattern.compile(PATH_PARSE_REGEX);
-        Matcher stepDataMatcher = stepDataPattern.matcher(dataParameter);
-        return stepDataMatcher.find();
+        return PlaceholderTemplate.data(dataParameter).hasPlaceholders();
     }
 
     public static String formFeatureData(CucumberFeature cucumberFeature) {
@@ -63,7 +58,7 @@ public class DataUtils {
     }
 
     public static void parseDataTagValue(String tag) throws DataException {
-        DataFactory.updateCollection(DataFactory.getDataProvider().getByPath(tag));
+        DataFactory.updateCollection(tag);
     }
 
     private static Feature getFeature(CucumberFeature cucumberFeature) {
@@ -0,0 +1,127 @@
+package ru.sbtqa.tag.pagefactory.data;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import ru.sbtqa.tag.datajack.exceptions.DataException;
+
+import static ru.sbtqa.tag.datajack.providers.AbstractDataProvider.PATH_PARSE_REGEX;
+
+/**
+ * Text split by placeholders of some kind (data {@code $Collection{path}} or
+ * stash {@code #{key}}). Texts are compiled once and cached, so rendering a
+ * step text is a single pass over its literal parts and placeholders
+ */
+public class PlaceholderTemplate {
+
+    private static final String STASH_PARSE_REGEX = "(?:\\#\\{([^\\}]+)\\})";
+    private static final Pattern DATA_PATTERN = Pattern.compile(PATH_PARSE_REGEX);
+    private static final Pattern STASH_PATTERN = Pattern.compile(STASH_PARSE_REGEX);
+    private static final long CACHE_SIZE = 10_000;
+
+    private static final Cache<String, PlaceholderTemplate> DATA_TEMPLATES = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE).build();
+    private static final Cache<String, PlaceholderTemplate> STASH_TEMPLATES = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE).build();
+
+    private final List<String> literals;
+    private final List<Placeholder> placeholders;
+
+    private PlaceholderTemplate(String text, Pattern pattern) {
+        List<String> textParts = new ArrayList<>();
+        List<Placeholder> textPlaceholders = new ArrayList<>();
+        Matcher matcher = pattern.matcher(text);
+        int literalStart = 0;
+        while (matcher.find()) {
+            textParts.add(text.substring(literalStart, matcher.start()));
+            textPlaceholders.add(new Placeholder(matcher));
+            literalStart = matcher.end();
+        }
+        textParts.add(text.substring(literalStart));
+
+        this.literals = textPlaceholders.isEmpty() ? Collections.singletonList(text) : textParts;
+        this.placeholders = textPlaceholders;
+    }
+
+    /**
+     * Get compiled template of a text with data placeholders
+     *
+     * @param text text to compile
+     * @return compiled template
+     */
+    public static PlaceholderTemplate data(String text) {
+        return compile(DATA_TEMPLATES, text, DATA_PATTERN);
+    }
+
+    /**
+     * Get compiled template of a text with stash placeholders
+     *
+     * @param text text to compile
+     * @return compiled template
+     */
+    public static PlaceholderTemplate stash(String text) {
+        return compile(STASH_TEMPLATES, text, STASH_PATTERN);
+    }
+
+    private static PlaceholderTemplate compile(Cache<String, PlaceholderTemplate> cache, String text, Pattern pattern) {
+        try {
+            return cache.get(text, () -> new PlaceholderTemplate(text, pattern));
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ExceptionUtils.getRootCause(ex));
+        }
+    }
+
+    public boolean hasPlaceholders() {
+        return !placeholders.isEmpty();
+    }
+
+    /**
+     * Substitute all placeholders of the template
+     *
+     * @param resolver provides a value of each placeholder
+     * @return rendered text
+     * @throws DataException if a placeholder value can not be resolved
+     */
+    public String render(Resolver resolver) throws DataException {
+        if (placeholders.isEmpty()) {
+            return literals.get(0);
+        }
+
+        StringBuilder rendered = new StringBuilder();
+        for (int index = 0; index < placeholders.size(); index++) {
+            rendered.append(literals.get(index)).append(resolver.resolve(placeholders.get(index)));
+        }
+        return rendered.append(literals.get(placeholders.size())).toString();
+    }
+
+    /**
+     * Placeholder groups captured by the placeholder pattern
+     */
+    public static class Placeholder {
+
+        private final String[] groups;
+
+        private Placeholder(Matcher matcher) {
+            groups = new String[matcher.groupCount() + 1];
+            for (int group = 0; group <= matcher.groupCount(); group++) {
+                groups[group] = matcher.group(group);
+            }
+        }
+
+        public String group(int group) {
+            return groups[group];
+        }
+    }
+
+    @FunctionalInterface
+    public interface Resolver {
+
+        String resolve(Placeholder placeholder) throws DataException;
+    }
+}
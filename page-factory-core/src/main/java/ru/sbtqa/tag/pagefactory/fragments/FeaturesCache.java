@@ -0,0 +1,249 @@
+package ru.sbtqa.tag.pagefactory.fragments;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import cucumber.runtime.io.Resource;
+import cucumber.runtime.model.CucumberFeature;
+import gherkin.ast.ScenarioDefinition;
+import gherkin.ast.Step;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.datajack.exceptions.DataException;
+import ru.sbtqa.tag.pagefactory.exceptions.FragmentException;
+import ru.sbtqa.tag.pagefactory.properties.Configuration;
+import ru.sbtqa.tag.pagefactory.utils.FeatureParallelUtils;
+import ru.sbtqa.tag.pagefactory.utils.GherkinResource;
+import ru.sbtqa.tag.pagefactory.utils.GherkinSerializer;
+
+/**
+ * On-disk cache of features with substituted fragments. A feature is keyed by
+ * the hash of its source and of the sources of features containing its
+ * fragments (transitively), so only changed features and features using
+ * changed fragments are expanded again. Features with fragment names taken
+ * from test data are always expanded. Cached features that were not used for
+ * {@link #MAX_AGE_DAYS} days are deleted
+ */
+public class FeaturesCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeaturesCache.class);
+    private static final Configuration PROPERTIES = Configuration.create();
+
+    private static final String CACHE_VERSION = "1";
+    private static final String EXTENSION = ".feature";
+    private static final long MAX_AGE_DAYS = 30;
+
+    private final Path directory;
+    private final Map<CucumberFeature, String> hashes = new IdentityHashMap<>();
+
+    /**
+     * @param directory directory to store expanded features in
+     */
+    public FeaturesCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Substitute fragments in features and realign them. Features that were
+     * not changed since the previous run are read from the cache
+     *
+     * @param features features to expand
+     * @return expanded and reserialized features
+     * @throws IllegalAccessException if it was not possible to replace a step with a fragment
+     * @throws FragmentException if fragments can not be substituted
+     * @throws DataException if a fragment name can not be taken from data
+     */
+    public List<CucumberFeature> expand(List<CucumberFeature> features) throws IllegalAccessException, FragmentException, DataException {
+        List<CucumberFeature> fragments = FragmentCacheUtils.loadFragments(this.getClass());
+        List<CucumberFeature> library = FragmentCacheUtils.cacheFragmentsToFeatures(features, fragments);
+        Map<String, ScenarioDefinition> fragmentsMap = FragmentCacheUtils.cacheFragmentsAsMap(library);
+        Map<ScenarioDefinition, String> scenarioLanguageMap = FragmentCacheUtils.cacheScenarioLanguage(library);
+        Map<ScenarioDefinition, CucumberFeature> fragmentFeatures = new IdentityHashMap<>();
+        Set<CucumberFeature> fragmentSources = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CucumberFeature feature : library) {
+            for (ScenarioDefinition scenario : feature.getGherkinFeature().getFeature().getChildren()) {
+                if (fragmentsMap.get(scenario.getName()) == scenario) {
+                    fragmentFeatures.put(scenario, feature);
+                    fragmentSources.add(feature);
+                }
+            }
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> sources = new ArrayList<>();
+        List<CucumberFeature> expired = new ArrayList<>();
+        List<CucumberFeature> expanded = new ArrayList<>(Collections.nCopies(features.size(), null));
+        for (CucumberFeature feature : features) {
+            String key = getKey(feature, fragmentsMap, scenarioLanguageMap, fragmentFeatures);
+            String source = key == null ? null : read(key);
+            if (source == null) {
+                expired.add(feature);
+            }
+            keys.add(key);
+            sources.add(source);
+        }
+        LOG.debug("{} of {} features are taken from the cache {}", features.size() - expired.size(), features.size(), directory);
+        prune();
+
+        if (!expired.isEmpty()) {
+            // fragments of unchanged features are still needed to expand the changed ones
+            List<CucumberFeature> toExpand = new ArrayList<>();
+            for (int index = 0; index < features.size(); index++) {
+                CucumberFeature feature = features.get(index);
+                if (sources.get(index) == null || fragmentSources.contains(feature)) {
+                    toExpand.add(feature);
+                }
+            }
+            new FragmentReplacer(toExpand, fragments).replace();
+
+            List<Integer> expiredIndices = new ArrayList<>();
+            for (int index = 0; index < features.size(); index++) {
+                if (sources.get(index) == null) {
+                    expiredIndices.add(index);
+                }
+            }
+            List<CucumberFeature> realigned = FeatureParallelUtils.map(expiredIndices,
+                    index -> new GherkinSerializer().realign(features.get(index)));
+            for (int position = 0; position < expiredIndices.size(); position++) {
+                int index = expiredIndices.get(position);
+                String source = FeatureParallelUtils.getSource(realigned.get(position));
+                if (keys.get(index) != null) {
+                    write(keys.get(index), source);
+                }
+                if (PROPERTIES.isFragmentsReparseEnabled()) {
+                    sources.set(index, source);
+                } else {
+                    expanded.set(index, realigned.get(position));
+                }
+            }
+        }
+
+        List<Integer> parsedIndices = new ArrayList<>();
+        List<Resource> resources = new ArrayList<>();
+        for (int index = 0; index < features.size(); index++) {
+            if (expanded.get(index) == null) {
+                parsedIndices.add(index);
+                resources.add(new GherkinResource(sources.get(index), features.get(index).getUri()));
+            }
+        }
+        List<List<CucumberFeature>> parsed = FeatureParallelUtils.map(resources, resource -> FeatureParallelUtils.parse(Collections.singletonList(resource)));
+        for (int position = 0; position < parsedIndices.size(); position++) {
+            List<CucumberFeature> parsedFeatures = parsed.get(position);
+            expanded.set(parsedIndices.get(position), parsedFeatures.isEmpty() ? null : parsedFeatures.get(0));
+        }
+
+        expanded.removeIf(Objects::isNull);
+        return FeatureParallelUtils.distinct(expanded);
+    }
+
+    private String getKey(CucumberFeature feature, Map<String, ScenarioDefinition> fragmentsMap,
+                          Map<ScenarioDefinition, String> scenarioLanguageMap,
+                          Map<ScenarioDefinition, CucumberFeature> fragmentFeatures) throws FragmentException {
+        Set<ScenarioDefinition> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Queue<ScenarioDefinition> queue = new ArrayDeque<>(feature.getGherkinFeature().getFeature().getChildren());
+        Set<String> dependencies = new HashSet<>();
+
+        while (!queue.isEmpty()) {
+            ScenarioDefinition scenario = queue.poll();
+            String language = scenarioLanguageMap.get(scenario);
+            for (Step step : scenario.getSteps()) {
+                if (FragmentUtils.isStepFragmentRequire(step, language)) {
+                    ScenarioDefinition fragment = fragmentsMap.get(FragmentUtils.getFragmentName(step, language));
+                    if (fragment == null) {
+                        // fragment name is taken from data, or there is no such fragment at all
+                        return null;
+                    }
+                    String dependency = getHash(fragmentFeatures.get(fragment));
+                    if (dependency == null) {
+                        return null;
+                    }
+                    dependencies.add(dependency);
+                    if (visited.add(fragment)) {
+                        queue.add(fragment);
+                    }
+                }
+            }
+        }
+
+        String hash = getHash(feature);
+        if (hash == null) {
+            return null;
+        }
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(CACHE_VERSION, StandardCharsets.UTF_8)
+                .putString(String.valueOf(FeaturesCache.class.getPackage().getImplementationVersion()), StandardCharsets.UTF_8)
+                .putString(hash, StandardCharsets.UTF_8);
+        dependencies.stream().sorted().forEach(dependency -> hasher.putString(dependency, StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+
+    private String getHash(CucumberFeature feature) {
+        if (!hashes.containsKey(feature)) {
+            String source = FeatureParallelUtils.getSource(feature);
+            hashes.put(feature, source == null ? null : Hashing.sha256().hashString(source, StandardCharsets.UTF_8).toString());
+        }
+        return hashes.get(feature);
+    }
+
+    private String read(String key) {
+        Path file = directory.resolve(key + EXTENSION);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            // the modification time marks the last use of a cached feature
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return source;
+        } catch (IOException ex) {
+            LOG.debug("Failed to read cached feature {}", file, ex);
+            return null;
+        }
+    }
+
+    private void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        FileTime expiration = FileTime.from(Instant.now().minus(MAX_AGE_DAYS, ChronoUnit.DAYS));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).compareTo(expiration) < 0) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ex) {
+            LOG.warn("Failed to delete stale cached features in {}", directory, ex);
+        }
+    }
+
+    private void write(String key, String source) {
+        Path file = directory.resolve(key + EXTENSION);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, key, EXTENSION);
+            Files.write(temp, source.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            LOG.warn("Failed to cache feature {}", file, ex);
+        }
+    }
+}
@@ -13,8 +13,10 @@ import gherkin.ast.Step;
 import gherkin.ast.Tag;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -25,6 +27,7 @@ import ru.sbtqa.tag.pagefactory.data.DataUtils;
 import ru.sbtqa.tag.pagefactory.exceptions.FragmentException;
 import ru.sbtqa.tag.pagefactory.properties.Configuration;
 import ru.sbtqa.tag.pagefactory.reflection.DefaultReflection;
+import ru.sbtqa.tag.pagefactory.utils.FeatureParallelUtils;
 
 class FragmentCacheUtils {
 
@@ -36,29 +39,35 @@ class FragmentCacheUtils {
     private FragmentCacheUtils() {
     }
 
-    static List<CucumberFeature> cacheFragmentsToFeatures(Class clazz, List<CucumberFeature> features) {
-        if (PROPERTIES.getFragmentsPath().isEmpty()) {
+    static List<CucumberFeature> cacheFragmentsToFeatures(List<CucumberFeature> features, List<CucumberFeature> fragments) {
+        if (fragments.isEmpty()) {
             return features;
-        } else {
-            ClassLoader classLoader = clazz.getClassLoader();
-            ResourceLoader resourceLoader = new MultiLoader(classLoader);
-            List<CucumberFeature> fragmentsRaw = CucumberFeature.load(resourceLoader, Collections.singletonList(PROPERTIES.getFragmentsPath()));
-            return Stream.concat(features.stream(), fragmentsRaw.stream()).collect(Collectors.toList());
         }
+        return Stream.concat(features.stream(), fragments.stream()).collect(Collectors.toList());
     }
 
-    static Map<String, ScenarioDefinition> cacheFragmentsAsMap(List<CucumberFeature> features) {
-        Map<String, ScenarioDefinition> fragments = new HashMap<>();
+    static List<CucumberFeature> loadFragments(Class clazz) {
+        if (PROPERTIES.getFragmentsPath().isEmpty()) {
+            return Collections.emptyList();
+        }
+        ClassLoader classLoader = clazz.getClassLoader();
+        ResourceLoader resourceLoader = new MultiLoader(classLoader);
+        return FeatureParallelUtils.load(resourceLoader, Collections.singletonList(PROPERTIES.getFragmentsPath()));
+    }
 
-        for (CucumberFeature cucumberFeature : features) {
+    static Map<String, ScenarioDefinition> cacheFragmentsAsMap(List<CucumberFeature> features) {
+        List<List<ScenarioDefinition>> featuresFragments = FeatureParallelUtils.map(features, cucumberFeature -> {
             GherkinDocument gherkinDocument = cucumberFeature.getGherkinFeature();
             Feature feature = gherkinDocument.getFeature();
-            List<ScenarioDefinition> scenarioDefinitions = feature.getChildren();
-            for (ScenarioDefinition scenario : scenarioDefinitions) {
-                List<Tag> tags = new DefaultReflection().getScenarioTags(scenario);
-                if (isFragmentTagContains(tags)) {
-                    fragments.put(scenario.getName(), scenario);
-                }
+            return feature.getChildren().stream()
+                    .filter(scenario -> isFragmentTagContains(new DefaultReflection().getScenarioTags(scenario)))
+                    .collect(Collectors.toList());
+        });
+
+        Map<String, ScenarioDefinition> fragments = new HashMap<>();
+        for (List<ScenarioDefinition> featureFragments : featuresFragments) {
+            for (ScenarioDefinition scenario : featureFragments) {
+                fragments.put(scenario.getName(), scenario);
             }
         }
 
@@ -73,6 +82,7 @@ class FragmentCacheUtils {
                                                                    Map<String, ScenarioDefinition> fragmentsMap,
                                                                    Map<ScenarioDefinition, String> scenarioLanguageMap) throws FragmentException, DataException {
         MutableValueGraph<Object, String> graph = ValueGraphBuilder.directed().allowsSelfLoops(false).build();
+        Map<ScenarioDefinition, Set<String>> visited = new HashMap<>();
 
         for (CucumberFeature cucumberFeature : features) {
             String featureData = DataUtils.formFeatureData(cucumberFeature);
@@ -85,7 +95,7 @@ class FragmentCacheUtils {
 
             for (ScenarioDefinition scenario : scenarioDefinitions) {
                 String scenarioData = DataUtils.formScenarioDataTag(scenario, featureData);
-                addGraphNode(graph, scenario, scenarioData, fragmentsMap, scenarioLanguageMap);
+                addGraphNode(graph, scenario, scenarioData, fragmentsMap, scenarioLanguageMap, visited);
             }
         }
 
@@ -97,8 +107,13 @@ class FragmentCacheUtils {
 
     private static void addGraphNode(MutableValueGraph graph, ScenarioDefinition scenario, String data,
                                      Map<String, ScenarioDefinition> fragmentsMap,
-                                     Map<ScenarioDefinition, String> scenarioLanguageMap) throws FragmentException, DataException {
+                                     Map<ScenarioDefinition, String> scenarioLanguageMap,
+                                     Map<ScenarioDefinition, Set<String>> visited) throws FragmentException, DataException {
         graph.addNode(scenario);
+        // each scenario is walked once per data, so cycles and shared fragments are not walked again
+        if (!visited.computeIfAbsent(scenario, key -> new HashSet<>()).add(data)) {
+            return;
+        }
         String language = scenarioLanguageMap.get(scenario);
         List<Step> steps = scenario.getSteps();
 
@@ -122,7 +137,7 @@ class FragmentCacheUtils {
                 }
                 graph.putEdgeValue(scenario, fragment, data);
 
-                addGraphNode(graph, fragment, data, fragmentsMap, scenarioLanguageMap);
+                addGraphNode(graph, fragment, data, fragmentsMap, scenarioLanguageMap, visited);
             }
         }
     }
@@ -141,16 +156,18 @@ class FragmentCacheUtils {
     }
 
     static Map<ScenarioDefinition, String> cacheScenarioLanguage(List<CucumberFeature> features) {
-        Map<ScenarioDefinition, String> scenarioLanguageMap = new HashMap<>();
-
-        for (CucumberFeature cucumberFeature : features) {
+        List<Map<ScenarioDefinition, String>> featuresLanguages = FeatureParallelUtils.map(features, cucumberFeature -> {
             GherkinDocument gherkinDocument = cucumberFeature.getGherkinFeature();
             Feature feature = gherkinDocument.getFeature();
-            List<ScenarioDefinition> scenarios = feature.getChildren();
-            for (ScenarioDefinition scenario : scenarios) {
-                scenarioLanguageMap.put(scenario, feature.getLanguage());
+            Map<ScenarioDefinition, String> featureLanguages = new HashMap<>();
+            for (ScenarioDefinition scenario : feature.getChildren()) {
+                featureLanguages.put(scenario, feature.getLanguage());
             }
-        }
+            return featureLanguages;
+        });
+
+        Map<ScenarioDefinition, String> scenarioLanguageMap = new HashMap<>();
+        featuresLanguages.forEach(scenarioLanguageMap::putAll);
 
         return scenarioLanguageMap;
     }
@@ -1,13 +1,17 @@
 package ru.sbtqa.tag.pagefactory.fragments;
 
-import com.google.common.graph.EndpointPair;
 import com.google.common.graph.MutableValueGraph;
 import cucumber.runtime.model.CucumberFeature;
 import gherkin.ast.ScenarioDefinition;
 import gherkin.ast.Step;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import ru.sbtqa.tag.datajack.exceptions.DataException;
 import ru.sbtqa.tag.pagefactory.data.DataReplacer;
@@ -21,62 +25,94 @@ public class FragmentReplacer {
     private Map<ScenarioDefinition, String> scenarioLanguageMap;
 
     public FragmentReplacer(List<CucumberFeature> features) throws FragmentException, DataException {
-        this.features = FragmentCacheUtils.cacheFragmentsToFeatures(this.getClass(), features);
+        this(features, FragmentCacheUtils.loadFragments(FragmentReplacer.class));
+    }
+
+    /**
+     * @param features features to substitute fragments in
+     * @param fragments features of the fragments path, if they are already loaded
+     * @throws FragmentException if there is no fragment for a step
+     * @throws DataException if a fragment name can not be taken from data
+     */
+    FragmentReplacer(List<CucumberFeature> features, List<CucumberFeature> fragments) throws FragmentException, DataException {
+        this.features = FragmentCacheUtils.cacheFragmentsToFeatures(features, fragments);
         this.scenarioLanguageMap = FragmentCacheUtils.cacheScenarioLanguage(this.features);
         Map<String, ScenarioDefinition> fragmentsMap = FragmentCacheUtils.cacheFragmentsAsMap(this.features);
         this.fragmentsGraph = FragmentCacheUtils.cacheFragmentsAsGraph(this.features, fragmentsMap, scenarioLanguageMap);
     }
 
     /**
-     * In the graph, terminal fragments are searched and substituted cyclically.
-     * The cycle will be completed when all fragments are substituted and there are no edges left in the graph.
+     * Fragments are substituted in reverse topological order of the graph
+     * (Kahn's algorithm over reverse edges): a scenario is expanded once all
+     * of its fragments are expanded, so every fragment is expanded only once.
+     *
+     * In case of graph
+     *
+     * a -> b
+     * |
+     * -> c
+     * |
+     * d -> e -> f
+     *
+     * fragments 'b', 'c' and 'f' are substituted first, then 'e', then 'd'
      *
      * @throws IllegalAccessException if it was not possible to replace a step with a fragment
-     * @throws FragmentException if fragments replacing is in an infinite loop
+     * @throws FragmentException if fragments graph contains a cycle
      */
     public void replace() throws IllegalAccessException, FragmentException, DataException {
-        while (!fragmentsGraph.edges().isEmpty()) {
-            int fragmentsGraphSize = fragmentsGraph.edges().size();
+        Map<Object, Integer> unexpandedFragments = new HashMap<>();
+        Queue<Object> expanded = new ArrayDeque<>();
+        for (Object node : fragmentsGraph.nodes()) {
+            int outDegree = fragmentsGraph.outDegree(node);
+            unexpandedFragments.put(node, outDegree);
+            if (outDegree == 0) {
+                expanded.add(node);
+            }
+        }
 
-            for (EndpointPair edge : new ArrayList<>(fragmentsGraph.edges())) {
-                ScenarioDefinition fragment = (ScenarioDefinition) edge.nodeV();
-                ScenarioDefinition scenario = (ScenarioDefinition) edge.nodeU();
-                String data = fragmentsGraph.edgeValue(edge.nodeU(), edge.nodeV()).get();
+        while (!expanded.isEmpty()) {
+            ScenarioDefinition fragment = (ScenarioDefinition) expanded.poll();
+            for (Object node : fragmentsGraph.predecessors(fragment)) {
+                ScenarioDefinition scenario = (ScenarioDefinition) node;
+                String data = fragmentsGraph.edgeValue(scenario, fragment).orElse(null);
+                replaceFragmentInScenario(scenario, fragment, data);
 
-                if (isTerminal(fragment)) {
-                    replaceFragmentInScenario(scenario, fragment, data);
-                    fragmentsGraph.removeEdge(scenario, fragment);
+                if (unexpandedFragments.merge(scenario, -1, Integer::sum) == 0) {
+                    expanded.add(scenario);
                 }
             }
+        }
 
-            if (fragmentsGraphSize == fragmentsGraph.edges().size()) {
-                throw new FragmentException("Fragments replacing is no longer performed, it will lead to an infinite loop. Interrupting...");
-            }
+        unexpandedFragments.values().removeIf(count -> count == 0);
+        if (!unexpandedFragments.isEmpty()) {
+            throw new FragmentException("Fragments graph contains a cycle: " + findCycle(unexpandedFragments.keySet()));
         }
     }
 
     /**
-     * In case of graph
+     * Each of the unexpanded nodes refers to at least one more unexpanded
+     * node, so walking through them always ends in a cycle
      *
-     * a -> b
-     * |
-     * -> c
-     * |
-     * d -> e -> f
-     *
-     * nodes 'a' and 'd' is terminal
-     *
-     * @param node
-     * @return
+     * @param unexpanded nodes left after expansion
+     * @return cycle path like {@code a -> b -> a}
      */
-    private boolean isTerminal(Object node) {
-        for (EndpointPair edge : fragmentsGraph.edges()) {
-            if (edge.nodeU().equals(node)) {
-                return false;
-            }
+    private String findCycle(Set<Object> unexpanded) {
+        List<Object> path = new ArrayList<>();
+        Map<Object, Integer> positions = new HashMap<>();
+        Object node = unexpanded.iterator().next();
+        while (!positions.containsKey(node)) {
+            positions.put(node, path.size());
+            path.add(node);
+            node = fragmentsGraph.successors(node).stream()
+                    .filter(unexpanded::contains)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Unexpanded fragment has no unexpanded successors"));
         }
+        path.add(node);
 
-        return true;
+        return path.subList(positions.get(node), path.size()).stream()
+                .map(cycleNode -> ((ScenarioDefinition) cycleNode).getName())
+                .collect(Collectors.joining(" -> "));
     }
 
     private void replaceFragmentInScenario(ScenarioDefinition scenario, ScenarioDefinition fragment, String data) throws IllegalAccessException, DataException, FragmentException {
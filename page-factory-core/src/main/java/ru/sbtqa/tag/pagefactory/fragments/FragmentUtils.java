@@ -1,10 +1,14 @@
 package ru.sbtqa.tag.pagefactory.fragments;
 
 import gherkin.ast.Step;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import ru.sbtqa.tag.pagefactory.exceptions.FragmentException;
 import ru.sbtqa.tag.pagefactory.junit.CoreSteps;
 import ru.sbtqa.tag.qautils.i18n.I18N;
@@ -12,6 +16,7 @@ import ru.sbtqa.tag.qautils.i18n.I18N;
 class FragmentUtils {
 
     private static final String FRAGMENT_STEP_REGEX_KEY = "ru.sbtqa.tag.pagefactory.insertFragment";
+    private static final Map<String, FragmentStepMatcher> MATCHERS = new ConcurrentHashMap<>();
 
     private FragmentUtils() {}
 
@@ -23,20 +28,11 @@ class FragmentUtils {
      * @return name of the scenario (fragment) to substitute
      */
     static String getFragmentName(Step step, String language) throws FragmentException {
-        Map<String, String> props = getFragmentStepRegex(language);
-        for (Map.Entry<String, String> entry : props.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-
-            if (key.startsWith(FRAGMENT_STEP_REGEX_KEY)) {
-                Pattern pattern = Pattern.compile(value);
-                Matcher matcher = pattern.matcher(step.getText());
-                if (matcher.find()) {
-                    return matcher.group(1);
-                }
-            }
+        String name = getFragmentStepMatcher(language).getFragmentName(step.getText());
+        if (name == null) {
+            throw new FragmentException("Fragment name not found");
         }
-        throw new FragmentException("Fragment name not found");
+        return name;
     }
 
     /**
@@ -47,26 +43,69 @@ class FragmentUtils {
      * @return returns true if the step needs to be replaced with a fragment
      */
     static boolean isStepFragmentRequire(Step step, String language) {
-        Map<String, String> props = getFragmentStepRegex(language);
-
-        for (Map.Entry<String, String> entry : props.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
-
-            if (key.startsWith(FRAGMENT_STEP_REGEX_KEY) && Pattern.matches(value, step.getText())) {
-                return true;
-            }
-        }
-        return false;
+        return getFragmentStepMatcher(language).matches(step.getText());
     }
 
     /**
-     * Get regex of steps in need of replacement. Language required
+     * Get matcher of steps in need of replacement. Language required
      *
      * @param language language of regex
-     * @return regex of steps in need of replacement
+     * @return matcher of steps in need of replacement, compiled once per language
+     */
+    private static FragmentStepMatcher getFragmentStepMatcher(String language) {
+        FragmentStepMatcher matcher = MATCHERS.get(language);
+        if (matcher == null) {
+            matcher = MATCHERS.computeIfAbsent(language, key ->
+                    new FragmentStepMatcher(I18N.getI18n(CoreSteps.class, new Locale(key)).toMap()));
+        }
+        return matcher;
+    }
+
+    /**
+     * All fragment step regexes of a language joined into a single
+     * alternation, each of them wrapped into its own group
      */
-    private static Map<String, String> getFragmentStepRegex(String language) {
-         return I18N.getI18n(CoreSteps.class, new Locale(language)).toMap();
+    private static class FragmentStepMatcher {
+
+        private final Pattern pattern;
+        private final int[] alternativeGroups;
+
+        private FragmentStepMatcher(Map<String, String> props) {
+            List<String> regexes = props.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(FRAGMENT_STEP_REGEX_KEY))
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(Map.Entry::getValue)
+                    .collect(Collectors.toList());
+
+            StringJoiner alternation = new StringJoiner("|");
+            alternativeGroups = new int[regexes.size()];
+            int group = 1;
+            for (int index = 0; index < regexes.size(); index++) {
+                String regex = regexes.get(index);
+                alternation.add("(" + regex + ")");
+                alternativeGroups[index] = group;
+                group += Pattern.compile(regex).matcher("").groupCount() + 1;
+            }
+            pattern = regexes.isEmpty() ? null : Pattern.compile(alternation.toString());
+        }
+
+        private boolean matches(String text) {
+            return pattern != null && pattern.matcher(text).matches();
+        }
+
+        private String getFragmentName(String text) {
+            if (pattern == null) {
+                return null;
+            }
+            Matcher matcher = pattern.matcher(text);
+            if (matcher.find()) {
+                for (int alternativeGroup : alternativeGroups) {
+                    if (matcher.group(alternativeGroup) != null) {
+                        return matcher.group(alternativeGroup + 1);
+                    }
+                }
+            }
+            return null;
+        }
     }
 }
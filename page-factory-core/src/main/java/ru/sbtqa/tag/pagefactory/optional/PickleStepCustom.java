@@ -1,18 +1,20 @@
 package ru.sbtqa.tag.pagefactory.optional;
 
 import gherkin.pickles.PickleStep;
-import org.apache.commons.lang3.reflect.FieldUtils;
-import ru.sbtqa.tag.pagefactory.exceptions.ReadFieldError;
+import ru.sbtqa.tag.pagefactory.data.DataBindingPlan;
+import ru.sbtqa.tag.pagefactory.reflection.FieldAccessor;
 
 public class PickleStepCustom extends PickleStep {
 
     public static final String NON_CRITICAL = "? ";
+    private static final FieldAccessor TEXT = FieldAccessor.of(PickleStep.class, "text");
 
     private Boolean isCritical = true;
     private Boolean isSkipped = false;
     private String data;
     private Throwable error = null;
     private String log = null;
+    private DataBindingPlan bindingPlan = null;
 
     public PickleStepCustom(PickleStep step) {
         super(step.getText(), step.getArgument(), step.getLocations());
@@ -23,6 +25,14 @@ public class PickleStepCustom extends PickleStep {
         return this.isCritical;
     }
 
+    /**
+     * @return shift of argument offsets from the text without the
+     * non-critical sign to the source step text
+     */
+    public int getArgumentShift() {
+        return this.isCritical ? 0 : NON_CRITICAL.length();
+    }
+
     public boolean isSkipped() {
         return this.isSkipped;
     }
@@ -52,11 +62,7 @@ public class PickleStepCustom extends PickleStep {
     }
 
     public void setText(String text) {
-        try {
-            FieldUtils.writeField(this, "text", text, true);
-        } catch (IllegalAccessException ex) {
-            throw new ReadFieldError("Error reading the field: text");
-        }
+        TEXT.set(this, text);
     }
 
     public String getData() {
@@ -67,13 +73,21 @@ public class PickleStepCustom extends PickleStep {
         this.data = data;
     }
 
+    public DataBindingPlan getBindingPlan() {
+        return bindingPlan;
+    }
+
+    public void setBindingPlan(DataBindingPlan bindingPlan) {
+        this.bindingPlan = bindingPlan;
+    }
+
     public void setCritical(Boolean critical) {
         this.isCritical = critical;
     }
 
     public void replaceNonCriticalText() {
-        if (!this.isCritical) {
-            this.setText(this.getText().replaceFirst("\\" + NON_CRITICAL, ""));
+        if (!this.isCritical && this.getText().startsWith(NON_CRITICAL)) {
+            this.setText(this.getText().substring(NON_CRITICAL.length()));
         }
     }
 
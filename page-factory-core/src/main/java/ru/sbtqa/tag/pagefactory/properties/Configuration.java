@@ -17,6 +17,26 @@ public interface Configuration extends Config {
     @DefaultValue("20")
     int getTimeout();
 
+    @Key("wait.polling.initial")
+    @DefaultValue("50")
+    long getWaitPollingInitial();
+
+    @Key("wait.polling.max")
+    @DefaultValue("500")
+    long getWaitPollingMax();
+
+    @Key("wait.polling.multiplier")
+    @DefaultValue("2")
+    double getWaitPollingMultiplier();
+
+    @Key("wait.ignored.exceptions")
+    @DefaultValue("org.openqa.selenium.NotFoundException")
+    String[] getWaitIgnoredExceptions();
+
+    @Key("class.index.enabled")
+    @DefaultValue("false")
+    boolean isClassIndexEnabled();
+
     @Key("driver.shared")
     @DefaultValue("false")
     boolean getShared();
@@ -71,6 +91,22 @@ public interface Configuration extends Config {
     @DefaultValue("")
     String getFragmentsPath();
 
+    @Key("fragments.cache.enabled")
+    @DefaultValue("false")
+    boolean isFragmentsCacheEnabled();
+
+    @Key("fragments.cache.path")
+    @DefaultValue("target/page-factory/features")
+    String getFragmentsCachePath();
+
+    @Key("fragments.reparse.enabled")
+    @DefaultValue("false")
+    boolean isFragmentsReparseEnabled();
+
+    @Key("features.parallelism")
+    @DefaultValue("1")
+    int getFeaturesParallelism();
+
 
     @Key("data.initial.collection")
     @DefaultValue("")
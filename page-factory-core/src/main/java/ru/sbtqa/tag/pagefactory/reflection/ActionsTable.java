@@ -0,0 +1,177 @@
+package ru.sbtqa.tag.pagefactory.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitle;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitles;
+import ru.sbtqa.tag.pagefactory.exceptions.FactoryRuntimeException;
+
+/**
+ * Dispatch table of the methods annotated with {@link ActionTitle} or
+ * {@link ActionTitles}. The table is built once per class and maps an action
+ * title and a number of parameters to the method handles that can execute it
+ */
+public class ActionsTable {
+
+    private static final Map<Class<?>, ActionsTable> TABLES = new ConcurrentHashMap<>();
+    private static final MethodType ACTION_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Map<Key, List<Action>> actions;
+
+    private ActionsTable(Map<Key, List<Action>> actions) {
+        this.actions = actions;
+    }
+
+    /**
+     * Get dispatch table of the class, building it on first request
+     *
+     * @param clazz class of a page or a block
+     * @param methods provides methods declared in the class and its super
+     * classes, in the order of lookup priority
+     * @return dispatch table of the class
+     */
+    public static ActionsTable get(Class<?> clazz, Function<Class<?>, List<Method>> methods) {
+        ActionsTable table = TABLES.get(clazz);
+        if (table == null) {
+            table = TABLES.computeIfAbsent(clazz, key -> build(methods.apply(key)));
+        }
+        return table;
+    }
+
+    private static ActionsTable build(List<Method> methods) {
+        Map<Key, List<Action>> actions = new HashMap<>();
+        for (Method method : methods) {
+            List<ActionTitle> titles = getActionTitles(method);
+            if (titles.isEmpty()) {
+                continue;
+            }
+
+            Action action = new Action(method);
+            for (ActionTitle title : titles) {
+                actions.computeIfAbsent(new Key(title.value(), method.getParameterCount()), key -> new ArrayList<>())
+                        .add(action);
+            }
+        }
+        return new ActionsTable(actions);
+    }
+
+    private static List<ActionTitle> getActionTitles(Method method) {
+        List<ActionTitle> titles = new ArrayList<>();
+        ActionTitles actionTitles = method.getAnnotation(ActionTitles.class);
+        if (actionTitles != null) {
+            Collections.addAll(titles, actionTitles.value());
+        }
+        ActionTitle actionTitle = method.getAnnotation(ActionTitle.class);
+        if (actionTitle != null) {
+            titles.add(actionTitle);
+        }
+        return titles;
+    }
+
+    /**
+     * Find an action with the given title whose parameters accept the given
+     * arguments
+     *
+     * @param title action title
+     * @param parameters action arguments
+     * @return the action, or {@code null} if there is no such action
+     */
+    public Action find(String title, Object... parameters) {
+        List<Action> candidates = actions.get(new Key(title, parameters.length));
+        if (candidates != null) {
+            for (Action action : candidates) {
+                if (action.isApplicable(parameters)) {
+                    return action;
+                }
+            }
+        }
+        return null;
+    }
+
+    public static class Action {
+
+        private final Method method;
+        private final Class<?>[] parameterTypes;
+        private final MethodHandle handle;
+
+        private Action(Method method) {
+            this.method = method;
+            this.parameterTypes = method.getParameterTypes();
+            try {
+                method.setAccessible(true);
+                MethodHandle spread = MethodHandles.lookup().unreflect(method)
+                        .asSpreader(Object[].class, parameterTypes.length);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    spread = MethodHandles.dropArguments(spread, 0, Object.class);
+                }
+                this.handle = spread.asType(ACTION_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new FactoryRuntimeException("Failed to access action method " + method, e);
+            }
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        private boolean isApplicable(Object... parameters) {
+            for (int index = 0; index < parameterTypes.length; index++) {
+                if (parameters[index] != null && !parameterTypes[index].isAssignableFrom(parameters[index].getClass())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Execute the action on the given context
+         *
+         * @param context page or block declaring the action
+         * @param parameters action arguments
+         * @return value returned by the action method, {@code null} for void methods
+         * @throws Throwable anything thrown by the action method
+         */
+        public Object invoke(Object context, Object... parameters) throws Throwable {
+            return (Object) handle.invokeExact(context, parameters);
+        }
+    }
+
+    private static final class Key {
+
+        private final String title;
+        private final int arity;
+
+        private Key(String title, int arity) {
+            this.title = title;
+            this.arity = arity;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return arity == key.arity && title.equals(key.title);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, arity);
+        }
+    }
+}
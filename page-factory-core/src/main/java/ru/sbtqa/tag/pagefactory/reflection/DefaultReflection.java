@@ -6,7 +6,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,6 +33,11 @@ public class DefaultReflection implements Reflection {
 
     @Override
     public String getElementTitle(Page page, Object element) {
+        String indexedTitle = ElementTitlesIndex.getTitle(page, element);
+        if (indexedTitle != null) {
+            return indexedTitle;
+        }
+
         for (Map.Entry<Field, String> entry : PageManager.getPageRepository().get(page.getClass()).entrySet()) {
             try {
                 if (getElementByField(page, entry.getKey()) == element) {
@@ -52,18 +56,16 @@ public class DefaultReflection implements Reflection {
 
     @Override
     public void executeMethodByTitle(Object context, String title, Object... param) {
-        List<Method> methods = getDeclaredMethods(context.getClass());
-        for (Method method : methods) {
-            if (isRequiredAction(method, title)
-                    && isArgumentsIdentical(method, param)) {
-                try {
-                    method.setAccessible(true);
-                    method.invoke(context, param);
-                    return;
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    throw new FactoryRuntimeException("Error while executing action '" + title + "' on "
-                            + method.getDeclaringClass().getSimpleName() + " . See the caused exception below", ExceptionUtils.getRootCause(e));
-                }
+        ActionsTable.Action action = ActionsTable.get(context.getClass(), this::getDeclaredMethods).find(title, param);
+        if (action != null) {
+            try {
+                action.invoke(context, param);
+                return;
+            } catch (Throwable e) {
+                Throwable rootCause = ExceptionUtils.getRootCause(e);
+                throw new FactoryRuntimeException("Error while executing action '" + title + "' on "
+                        + action.getMethod().getDeclaringClass().getSimpleName() + " . See the caused exception below",
+                        rootCause != null ? rootCause : e);
             }
         }
 
@@ -72,21 +74,6 @@ public class DefaultReflection implements Reflection {
                 + "'] on page '" + context.getClass() + "'");
     }
 
-    private boolean isArgumentsIdentical(Method method, Object... actionParameters) {
-        Parameter[] methodParameters = method.getParameters();
-        if (methodParameters.length != actionParameters.length) {
-            return false;
-        } else {
-            for (int index = 0; index < methodParameters.length; index++) {
-                if (actionParameters[index] != null && !methodParameters[index].getType()
-                        .isAssignableFrom(actionParameters[index].getClass())) {
-                    return false;
-                }
-            }
-            return true;
-        }
-    }
-
     @Override
     public List<Method> getDeclaredMethods(Class clazz) {
         List<Method> methods = new ArrayList<>(Arrays.asList(clazz.getDeclaredMethods()));
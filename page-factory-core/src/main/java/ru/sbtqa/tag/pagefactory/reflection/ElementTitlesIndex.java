@@ -0,0 +1,80 @@
+package ru.sbtqa.tag.pagefactory.reflection;
+
+import com.google.common.collect.MapMaker;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.Page;
+import ru.sbtqa.tag.pagefactory.PageManager;
+import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
+
+/**
+ * Reverse index of page elements: element instance to its title. It is
+ * filled once the page fields are decorated, so the title of an element is
+ * resolved without reading all fields of the page. Pages are held weakly and
+ * compared by identity
+ */
+public class ElementTitlesIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ElementTitlesIndex.class);
+
+    private static final Map<Page, Map<Object, String>> TITLES = new MapMaker().weakKeys().makeMap();
+
+    private ElementTitlesIndex() {}
+
+    /**
+     * Index elements of the decorated page. Should be called after page
+     * fields are initialized
+     *
+     * @param page decorated page
+     */
+    public static void index(Page page) {
+        Map<Field, String> fields = PageManager.getPageRepository().get(page.getClass());
+        if (fields == null) {
+            return;
+        }
+
+        Map<Object, String> titles = new IdentityHashMap<>();
+        for (Map.Entry<Field, String> entry : fields.entrySet()) {
+            Field field = entry.getKey();
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                Object element = field.get(page);
+                if (element != null) {
+                    titles.putIfAbsent(element, getTitle(field, entry.getValue()));
+                }
+            } catch (IllegalAccessException | RuntimeException ex) {
+                LOG.debug("Failed to index field '{}' of page '{}'", field, page.getClass(), ex);
+            }
+        }
+        TITLES.put(page, Collections.unmodifiableMap(titles));
+    }
+
+    /**
+     * Get title of the page element
+     *
+     * @param page page containing the element
+     * @param element element to get title of
+     * @return title of the element, or {@code null} if the element was not
+     * indexed
+     */
+    public static String getTitle(Page page, Object element) {
+        Map<Object, String> titles = TITLES.get(page);
+        return titles == null ? null : titles.get(element);
+    }
+
+    private static String getTitle(Field field, String defaultTitle) {
+        ElementTitle elementTitle = field.getAnnotation(ElementTitle.class);
+        if (elementTitle != null && !elementTitle.value().isEmpty()) {
+            return elementTitle.value();
+        }
+        return defaultTitle;
+    }
+}
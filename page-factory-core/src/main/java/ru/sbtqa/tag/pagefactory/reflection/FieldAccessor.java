@@ -0,0 +1,73 @@
+package ru.sbtqa.tag.pagefactory.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import ru.sbtqa.tag.pagefactory.exceptions.ReadFieldError;
+
+/**
+ * Getter and setter method handles of a field that is not accessible
+ * otherwise (private or final fields of cucumber and gherkin classes). The
+ * field is looked up once, then read and written without reflection
+ */
+public class FieldAccessor {
+
+    private static final Map<String, FieldAccessor> ACCESSORS = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final String name;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Class<?> clazz, String name) {
+        this.name = name;
+        Field field = FieldUtils.getField(clazz, name, true);
+        if (field == null) {
+            throw new ReadFieldError("There is no field " + name + " in " + clazz.getName());
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException ex) {
+            throw new ReadFieldError("Error accessing the field: " + name, ex);
+        }
+    }
+
+    /**
+     * Get accessor of the field, looking it up on first request
+     *
+     * @param clazz class declaring the field or its subclass
+     * @param name field name
+     * @return field accessor
+     */
+    public static FieldAccessor of(Class<?> clazz, String name) {
+        String key = clazz.getName() + '#' + name;
+        FieldAccessor accessor = ACCESSORS.get(key);
+        if (accessor == null) {
+            accessor = ACCESSORS.computeIfAbsent(key, k -> new FieldAccessor(clazz, name));
+        }
+        return accessor;
+    }
+
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable ex) {
+            throw new ReadFieldError("Error reading the field: " + name, ex);
+        }
+    }
+
+    public void set(Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable ex) {
+            throw new ReadFieldError("Error writing the field: " + name, ex);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ru.sbtqa.tag.pagefactory.utils;
+
+import ru.sbtqa.tag.pagefactory.properties.Configuration;
+
+/**
+ * Delays between polls of a wait. The delay starts at {@code wait.polling.initial}
+ * and is multiplied by {@code wait.polling.multiplier} after each poll up to
+ * {@code wait.polling.max} milliseconds. The delays are at least 1 ms and the
+ * multiplier is at least 1, so the delay never shrinks
+ */
+public class Backoff {
+
+    private static final Configuration PROPERTIES = Configuration.create();
+
+    private final long max;
+    private final double multiplier;
+    private long delay;
+
+    public Backoff() {
+        this(PROPERTIES.getWaitPollingInitial(), PROPERTIES.getWaitPollingMax(), PROPERTIES.getWaitPollingMultiplier());
+    }
+
+    Backoff(long initial, long max, double multiplier) {
+        this.delay = Math.max(1, initial);
+        this.max = Math.max(this.delay, max);
+        this.multiplier = multiplier >= 1 ? multiplier : 1;
+    }
+
+    /**
+     * @return delay before the next poll in milliseconds
+     */
+    public long next() {
+        long current = delay;
+        delay = (long) Math.min(delay * multiplier, max);
+        return current;
+    }
+
+    /**
+     * @return the longest delay between polls in milliseconds
+     */
+    public long getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,104 @@
+package ru.sbtqa.tag.pagefactory.utils;
+
+import com.google.common.reflect.ClassPath;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.properties.Configuration;
+
+/**
+ * Loads classes listed in an index generated at compile time by
+ * {@code page-factory-processor}. The index is used only when
+ * {@code class.index.enabled} is set, otherwise or when there is no index for
+ * the requested package the class path is scanned
+ */
+public class ClassIndexUtils {
+
+    public static final String PAGES_INDEX = "META-INF/page-factory/pages.index";
+    public static final String ENDPOINTS_INDEX = "META-INF/page-factory/endpoints.index";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClassIndexUtils.class);
+    private static final Configuration PROPERTIES = Configuration.create();
+
+    private ClassIndexUtils() {}
+
+    /**
+     * Get top level classes of the package and its subpackages
+     *
+     * @param index index resource name
+     * @param packageName package to search classes in
+     * @return indexed classes of the package, or all its classes found on the
+     * class path if the index is disabled or the package is not indexed
+     */
+    public static Set<Class<?>> getTopLevelClasses(String index, String packageName) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (!PROPERTIES.isClassIndexEnabled()) {
+            return scan(loader, packageName);
+        }
+        Set<Class<?>> classes = loadIndex(loader, index, packageName);
+        if (classes.isEmpty()) {
+            LOG.debug("There is no {} for package {}, scanning class path", index, packageName);
+            classes = scan(loader, packageName);
+        }
+        return classes;
+    }
+
+    private static Set<Class<?>> loadIndex(ClassLoader loader, String index, String packageName) {
+        Set<Class<?>> classes = new HashSet<>();
+        String prefix = packageName + ".";
+        try {
+            Enumeration<URL> resources = loader.getResources(index);
+            while (resources.hasMoreElements()) {
+                for (String className : readIndex(resources.nextElement())) {
+                    if (className.startsWith(prefix)) {
+                        loadClass(loader, className, classes);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            LOG.warn("Failed to read {}", index, ex);
+            classes.clear();
+        }
+        return classes;
+    }
+
+    private static Set<String> readIndex(URL resource) throws IOException {
+        Set<String> classNames = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    classNames.add(line.trim());
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static void loadClass(ClassLoader loader, String className, Set<Class<?>> classes) {
+        try {
+            classes.add(Class.forName(className, false, loader));
+        } catch (ClassNotFoundException | LinkageError ex) {
+            LOG.warn("Skipping indexed class {} because it can not be loaded", className, ex);
+        }
+    }
+
+    private static Set<Class<?>> scan(ClassLoader loader, String packageName) {
+        Set<Class<?>> classes = new HashSet<>();
+        try {
+            for (ClassPath.ClassInfo info : ClassPath.from(loader).getTopLevelClassesRecursive(packageName)) {
+                classes.add(info.load());
+            }
+        } catch (IOException ex) {
+            LOG.warn("Failed to shape class info set", ex);
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,170 @@
+package ru.sbtqa.tag.pagefactory.utils;
+
+import cucumber.runtime.FeatureBuilder;
+import cucumber.runtime.io.Resource;
+import cucumber.runtime.io.ResourceLoader;
+import cucumber.runtime.model.CucumberFeature;
+import cucumber.runtime.model.PathWithLines;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.properties.Configuration;
+import ru.sbtqa.tag.pagefactory.reflection.FieldAccessor;
+
+/**
+ * Loads, parses and processes features in a {@link ForkJoinPool} of
+ * {@code features.parallelism} threads. Results are always merged in the
+ * order of the source list, so the order of features does not depend on the
+ * parallelism. With parallelism of 1 everything is done in the calling thread
+ */
+public class FeatureParallelUtils {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeatureParallelUtils.class);
+    private static final Configuration PROPERTIES = Configuration.create();
+    private static final String FEATURE_EXTENSION = ".feature";
+    private static final String RERUN_PREFIX = "@";
+    private static final FieldAccessor GHERKIN_SOURCE = FieldAccessor.of(CucumberFeature.class, "gherkinSource");
+
+    private static volatile ForkJoinPool pool;
+
+    private FeatureParallelUtils() {}
+
+    public static boolean isParallel() {
+        return PROPERTIES.getFeaturesParallelism() > 1;
+    }
+
+    /**
+     * Apply the function to each item
+     *
+     * @param items items to process
+     * @param function function to apply, should not share state between items
+     * @param <T> type of items
+     * @param <R> type of results
+     * @return results in the order of items
+     */
+    public static <T, R> List<R> map(List<T> items, Function<T, R> function) {
+        if (!isParallel() || items.size() < 2) {
+            return items.stream().map(function).collect(Collectors.toList());
+        }
+        return getPool().submit(() -> items.parallelStream().map(function).collect(Collectors.toList())).join();
+    }
+
+    /**
+     * Load features like {@link CucumberFeature#load(ResourceLoader, List, PrintStream)}
+     * does, parsing feature files in parallel. Rerun files are loaded by
+     * cucumber itself
+     *
+     * @param resourceLoader loader of feature files
+     * @param featurePaths feature paths from the runtime options
+     * @param out stream to report missing features to
+     * @return features sorted by uri
+     */
+    public static List<CucumberFeature> load(ResourceLoader resourceLoader, List<String> featurePaths, PrintStream out) {
+        List<CucumberFeature> features = load(resourceLoader, featurePaths);
+        if (features.isEmpty()) {
+            out.println(featurePaths.isEmpty() ? "Got no path to feature directory or feature file"
+                    : String.format("No features found at %s", featurePaths));
+        }
+        return features;
+    }
+
+    /**
+     * Load features like {@link CucumberFeature#load(ResourceLoader, List)}
+     * does, parsing feature files in parallel
+     *
+     * @param resourceLoader loader of feature files
+     * @param featurePaths feature paths
+     * @return features sorted by uri
+     */
+    public static List<CucumberFeature> load(ResourceLoader resourceLoader, List<String> featurePaths) {
+        if (!isParallel() || featurePaths.stream().anyMatch(path -> path.startsWith(RERUN_PREFIX))) {
+            return CucumberFeature.load(resourceLoader, featurePaths);
+        }
+
+        List<Resource> resources = new ArrayList<>();
+        try {
+            for (String featurePath : featurePaths) {
+                resourceLoader.resources(new PathWithLines(featurePath).path, FEATURE_EXTENSION).forEach(resources::add);
+            }
+        } catch (IllegalArgumentException ex) {
+            LOG.debug("Failed to list feature files, loading them sequentially", ex);
+            return CucumberFeature.load(resourceLoader, featurePaths);
+        }
+
+        List<CucumberFeature> features = parse(resources);
+        features.sort(Comparator.comparing(CucumberFeature::getUri));
+        return features;
+    }
+
+    /**
+     * Parse gherkin resources. Resources with the same source as one of the
+     * previous resources are ignored, like {@link FeatureBuilder} does
+     *
+     * @param resources resources to parse
+     * @return parsed features in the order of resources
+     */
+    public static List<CucumberFeature> parse(List<Resource> resources) {
+        if (!isParallel()) {
+            List<CucumberFeature> features = new ArrayList<>();
+            FeatureBuilder featureBuilder = new FeatureBuilder(features);
+            resources.forEach(featureBuilder::parse);
+            return features;
+        }
+
+        List<CucumberFeature> parsed = new ArrayList<>();
+        map(resources, resource -> {
+            List<CucumberFeature> features = new ArrayList<>();
+            new FeatureBuilder(features).parse(resource);
+            return features;
+        }).forEach(parsed::addAll);
+        return distinct(parsed);
+    }
+
+    /**
+     * Remove features with the same source as one of the previous features,
+     * like {@link FeatureBuilder} does
+     *
+     * @param features features to filter
+     * @return features with distinct sources in the original order
+     */
+    public static List<CucumberFeature> distinct(List<CucumberFeature> features) {
+        List<CucumberFeature> distinct = new ArrayList<>();
+        Set<String> sources = new HashSet<>();
+        for (CucumberFeature feature : features) {
+            String source = getSource(feature);
+            if (source == null || sources.add(source)) {
+                distinct.add(feature);
+            } else {
+                LOG.warn("Duplicate feature ignored: {}", feature.getUri());
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * @param feature loaded feature
+     * @return gherkin source of the feature, or {@code null} if it is unknown
+     */
+    public static String getSource(CucumberFeature feature) {
+        return (String) GHERKIN_SOURCE.get(feature);
+    }
+
+    private static ForkJoinPool getPool() {
+        if (pool == null) {
+            synchronized (FeatureParallelUtils.class) {
+                if (pool == null) {
+                    pool = new ForkJoinPool(PROPERTIES.getFeaturesParallelism());
+                }
+            }
+        }
+        return pool;
+    }
+}
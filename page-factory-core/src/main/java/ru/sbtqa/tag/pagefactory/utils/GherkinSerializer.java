@@ -1,12 +1,15 @@
 package ru.sbtqa.tag.pagefactory.utils;
 
-import cucumber.runtime.FeatureBuilder;
 import cucumber.runtime.io.Resource;
 import cucumber.runtime.model.CucumberFeature;
+import gherkin.ast.Background;
 import gherkin.ast.DataTable;
 import gherkin.ast.DocString;
 import gherkin.ast.Examples;
 import gherkin.ast.Feature;
+import gherkin.ast.GherkinDocument;
+import gherkin.ast.Location;
+import gherkin.ast.Node;
 import gherkin.ast.Scenario;
 import gherkin.ast.ScenarioDefinition;
 import gherkin.ast.ScenarioOutline;
@@ -16,14 +19,18 @@ import gherkin.ast.TableRow;
 import gherkin.ast.Tag;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class GherkinSerializer {
 
     private static final String NL = "\n";
     private static final String SPACE = " ";
+    private static final String DOC_STRING_SEPARATOR = "\"\"\"";
+    private static final String ESCAPED_DOC_STRING_SEPARATOR = "\\\"\\\"\\\"";
     private StringBuilder builder;
+    private int line;
+    private int countedLength;
 
     public GherkinSerializer() {
         builder = new StringBuilder();
@@ -37,37 +44,77 @@ public class GherkinSerializer {
      * @return reserealized features
      */
     public List<CucumberFeature> reserializeFeatures(List<CucumberFeature> cucumberFeatures) {
-        List<CucumberFeature> features = new ArrayList<>();
+        List<Resource> resources = FeatureParallelUtils.map(cucumberFeatures, cucumberFeature ->
+                new GherkinResource(new GherkinSerializer().serialize(cucumberFeature), cucumberFeature.getUri()));
+        return FeatureParallelUtils.parse(resources);
+    }
 
-        FeatureBuilder featureBuilder = new FeatureBuilder(features);
-        cucumberFeatures.forEach(cucumberFeature -> {
-            builder = new StringBuilder();
-            Feature feature = cucumberFeature.getGherkinFeature().getFeature();
-            builder.append("#language: " + feature.getLanguage());
-            nl(1);
-            if (!feature.getTags().isEmpty()) {
-                feature.getTags().forEach(tag -> builder.append(tag.getName()).append(SPACE));
-                nl(1);
-            }
-            builder.append(feature.getKeyword()).append(":").append(SPACE).append(feature.getName());
-            nl(1);
-            if (feature.getDescription() != null) {
-                tab(1);
-                builder.append(feature.getDescription());
-                nl(1);
-            }
+    /**
+     * Realign features without parsing them again: the source of each
+     * feature is serialized and its syntax tree is rebuilt with locations of
+     * the serialized source at the same time
+     *
+     * @param cucumberFeatures unaligned features
+     * @return realigned features
+     */
+    public List<CucumberFeature> realignFeatures(List<CucumberFeature> cucumberFeatures) {
+        return FeatureParallelUtils.distinct(
+                FeatureParallelUtils.map(cucumberFeatures, cucumberFeature -> new GherkinSerializer().realign(cucumberFeature)));
+    }
+
+    /**
+     * Serialize feature to gherkin source
+     *
+     * @param cucumberFeature feature to serialize
+     * @return gherkin source of the feature
+     */
+    public String serialize(CucumberFeature cucumberFeature) {
+        buildFeature(cucumberFeature.getGherkinFeature().getFeature());
+        return builder.toString();
+    }
+
+    /**
+     * Serialize feature to gherkin source and rebuild its syntax tree with
+     * locations of the serialized source
+     *
+     * @param cucumberFeature feature to realign
+     * @return realigned feature
+     */
+    public CucumberFeature realign(CucumberFeature cucumberFeature) {
+        Feature feature = buildFeature(cucumberFeature.getGherkinFeature().getFeature());
+        GherkinDocument document = new GherkinDocument(feature, Collections.emptyList());
+        return new CucumberFeature(document, cucumberFeature.getUri(), builder.toString());
+    }
+
+    private Feature buildFeature(Feature feature) {
+        builder = new StringBuilder();
+        line = 1;
+        countedLength = 0;
+
+        builder.append("#language: " + feature.getLanguage());
+        nl(1);
+        List<Tag> tags = buildTags(feature.getTags());
+        Location location = location();
+        builder.append(feature.getKeyword()).append(":").append(SPACE).append(feature.getName());
+        nl(1);
+        if (feature.getDescription() != null) {
+            tab(1);
+            builder.append(feature.getDescription());
             nl(1);
-            feature.getChildren().forEach(scenarioDefinition -> buildScenario(builder, scenarioDefinition));
-            Resource gherkinResource = new GherkinResource(builder.toString(), cucumberFeature.getUri());
-            featureBuilder.parse(gherkinResource);
-        });
-        return features;
+        }
+        nl(1);
+
+        List<ScenarioDefinition> children = new ArrayList<>();
+        feature.getChildren().forEach(scenarioDefinition -> children.add(buildScenario(scenarioDefinition)));
+        return new Feature(tags, location, feature.getLanguage(), feature.getKeyword(), feature.getName(),
+                feature.getDescription(), children);
     }
 
-    private void buildScenario(StringBuilder sb, ScenarioDefinition scenarioDefinition) {
-        buildScenarioTags(scenarioDefinition);
+    private ScenarioDefinition buildScenario(ScenarioDefinition scenarioDefinition) {
+        List<Tag> tags = buildScenarioTags(scenarioDefinition);
 
         tab(1);
+        Location location = location();
         builder.append(scenarioDefinition.getKeyword()).append(":").append(SPACE).append(scenarioDefinition.getName());
         nl(1);
 
@@ -78,16 +125,28 @@ public class GherkinSerializer {
             nl(2);
         }
 
-        scenarioDefinition.getSteps().forEach(this::buildStep);
+        List<Step> steps = new ArrayList<>();
+        scenarioDefinition.getSteps().forEach(step -> steps.add(buildStep(step)));
 
+        ScenarioDefinition rebuilt;
         if (scenarioDefinition instanceof ScenarioOutline) {
+            List<Examples> examples = new ArrayList<>();
             ((ScenarioOutline) scenarioDefinition)
-                    .getExamples().forEach(this::buildExamples);
+                    .getExamples().forEach(example -> examples.add(buildExamples(example)));
+            rebuilt = new ScenarioOutline(tags, location, scenarioDefinition.getKeyword(), scenarioDefinition.getName(),
+                    scenarioDefinition.getDescription(), steps, examples);
+        } else if (scenarioDefinition instanceof Background) {
+            rebuilt = new Background(location, scenarioDefinition.getKeyword(), scenarioDefinition.getName(),
+                    scenarioDefinition.getDescription(), steps);
+        } else {
+            rebuilt = new Scenario(tags, location, scenarioDefinition.getKeyword(), scenarioDefinition.getName(),
+                    scenarioDefinition.getDescription(), steps);
         }
         nl(1);
+        return rebuilt;
     }
 
-    private void buildScenarioTags(ScenarioDefinition scenarioDefinition) {
+    private List<Tag> buildScenarioTags(ScenarioDefinition scenarioDefinition) {
         List<Tag> tags = new ArrayList<>();
         if (scenarioDefinition instanceof Scenario) {
             tags = ((Scenario) scenarioDefinition).getTags();
@@ -96,60 +155,108 @@ public class GherkinSerializer {
         }
         if (!tags.isEmpty()) {
             tab(1);
-            tags.forEach(tag -> builder.append(tag.getName()).append(SPACE));
+        }
+        return buildTags(tags);
+    }
+
+    private List<Tag> buildTags(List<Tag> tags) {
+        List<Tag> rebuilt = new ArrayList<>();
+        if (!tags.isEmpty()) {
+            tags.forEach(tag -> {
+                rebuilt.add(new Tag(location(), tag.getName()));
+                builder.append(tag.getName()).append(SPACE);
+            });
             nl(1);
         }
+        return rebuilt;
     }
 
-    private void buildExamples(Examples examples) {
+    private Examples buildExamples(Examples examples) {
         nl(1);
         tab(2);
+        Location location = location();
         builder.append(examples.getKeyword()).append(":");
         nl(1);
-        List<String> header = examples.getTableHeader().getCells().stream()
-                .map(TableCell::getValue).collect(Collectors.toList());
         tab(2);
         space(2);
-        builder.append("|").append(String.join("|", header)).append("|");
-        nl(1);
-        examples.getTableBody().forEach(this::buildTableRow);
+        TableRow header = buildTableRow(examples.getTableHeader(), false);
+        List<TableRow> body = new ArrayList<>();
+        examples.getTableBody().forEach(tableRow -> {
+            tab(2);
+            space(2);
+            body.add(buildTableRow(tableRow, true));
+        });
+        return new Examples(location, Collections.emptyList(), examples.getKeyword(), "", null, header, body);
     }
 
-    private void buildStep(Step step) {
+    private Step buildStep(Step step) {
         tab(2);
+        Location location = location();
         builder.append(step.getKeyword()).append(SPACE).append(step.getText());
+        Node argument = null;
         if (step.getArgument() != null) {
             nl(1);
             if (step.getArgument() instanceof DataTable) {
                 DataTable table = (DataTable) step.getArgument();
-                table.getRows().forEach(this::buildTableRow);
+                List<TableRow> rows = new ArrayList<>();
+                table.getRows().forEach(tableRow -> {
+                    tab(2);
+                    space(2);
+                    rows.add(buildTableRow(tableRow, true));
+                });
+                argument = new DataTable(rows);
             } else if (step.getArgument() instanceof DocString) {
-                tab(2);
-                builder.append("\"\"\"");
-                nl(1);
                 DocString docString = (DocString) step.getArgument();
                 tab(2);
-                builder.append(docString.getContent());
+                Location docStringLocation = location();
+                builder.append(DOC_STRING_SEPARATOR);
+                if (docString.getContentType() != null) {
+                    builder.append(docString.getContentType());
+                }
                 nl(1);
+                // every line is indented like the separator, so the parser strips exactly this indent back
+                for (String contentLine : docString.getContent().split(NL, -1)) {
+                    if (!contentLine.isEmpty()) {
+                        tab(2);
+                        builder.append(contentLine.replace(DOC_STRING_SEPARATOR, ESCAPED_DOC_STRING_SEPARATOR));
+                    }
+                    nl(1);
+                }
                 tab(2);
-                builder.append("\"\"\"");
+                builder.append(DOC_STRING_SEPARATOR);
                 nl(1);
+                argument = new DocString(docStringLocation, docString.getContentType(), docString.getContent());
             }
 
         } else {
             builder.append("\n");
         }
+        return new Step(location, step.getKeyword(), step.getText(), argument);
     }
 
-    private void buildTableRow(TableRow tableRow) {
-        List<String> collect = tableRow.getCells().stream()
-                .map(tableCell -> tableCell.getValue()
-                        .replaceAll("\\|", "\\\\|"))
-                .collect(Collectors.toList());
-        tab(2);
-        space(2);
-        builder.append("|").append(String.join("|", collect)).append("|");
+    private TableRow buildTableRow(TableRow tableRow, boolean escape) {
+        Location location = location();
+        List<TableCell> cells = new ArrayList<>();
+        builder.append("|");
+        for (TableCell tableCell : tableRow.getCells()) {
+            cells.add(new TableCell(location(), tableCell.getValue()));
+            builder.append(escape ? tableCell.getValue().replaceAll("\\|", "\\\\|") : tableCell.getValue()).append("|");
+        }
         nl(1);
+        return new TableRow(location, cells);
+    }
+
+    /**
+     * @return location of the next symbol of the serialized source
+     */
+    private Location location() {
+        for (int index = countedLength; index < builder.length(); index++) {
+            if (builder.charAt(index) == '\n') {
+                line++;
+            }
+        }
+        countedLength = builder.length();
+        return new Location(line, builder.length() - builder.lastIndexOf(NL));
     }
 
 
@@ -1,21 +1,28 @@
 package ru.sbtqa.tag.pagefactory.utils;
 
 import static java.lang.String.format;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.FluentWait;
 import ru.sbtqa.tag.pagefactory.environment.Environment;
 import ru.sbtqa.tag.pagefactory.properties.Configuration;
+import ru.sbtqa.tag.qautils.errors.AutotestError;
 
 public class Wait {
 
     private static final Configuration PROPERTIES = Configuration.create();
     private static final String NOT_VISIBLE = "Element with xpath \"%s\" is not visible";
 
+    private static final List<Class<? extends Throwable>> IGNORED_EXCEPTIONS = loadIgnoredExceptions(PROPERTIES.getWaitIgnoredExceptions());
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+
     /**
      * Wait until the element becomes visible
      *
@@ -616,8 +623,7 @@ public class Wait {
      * @param message message in case verification failed
      */
     public static void wait(ExpectedCondition condition, String message) {
-        new WebDriverWait(Environment.getDriverService().getDriver(), PROPERTIES.getTimeout())
-                .withMessage(message).until(condition);
+        wait(condition, message, PROPERTIES.getTimeout());
     }
 
     /**
@@ -629,7 +635,98 @@ public class Wait {
      * @param timeout condition timeout in seconds
      */
     public static void wait(ExpectedCondition condition, String message, int timeout) {
-        new WebDriverWait(Environment.getDriverService().getDriver(), timeout)
-                .withMessage(message).until(condition);
+        getWait(message, timeout).until(condition);
+    }
+
+    /**
+     * Wait until all conditions are met at the same time, checking them in one polling loop
+     *
+     * @param message message in case the conditions were not met after waiting
+     * @param conditions conditions, for example visibility, text and clickability of an element
+     */
+    public static void all(String message, ExpectedCondition<?>... conditions) {
+        all(message, PROPERTIES.getTimeout(), conditions);
+    }
+
+    /**
+     * Wait until all conditions are met at the same time, checking them in one polling loop
+     *
+     * @param message message in case the conditions were not met after waiting
+     * @param timeout condition timeout in seconds
+     * @param conditions conditions, for example visibility, text and clickability of an element
+     */
+    public static void all(String message, int timeout, ExpectedCondition<?>... conditions) {
+        getWait(message, timeout).until(driver -> {
+            for (ExpectedCondition<?> condition : conditions) {
+                if (!isMet(condition.apply(driver))) {
+                    return null;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Wait until any of the conditions is met, checking them in one polling loop
+     *
+     * @param message message in case none of the conditions was met after waiting
+     * @param conditions conditions
+     * @return result of the first met condition
+     */
+    public static Object any(String message, ExpectedCondition<?>... conditions) {
+        return any(message, PROPERTIES.getTimeout(), conditions);
+    }
+
+    /**
+     * Wait until any of the conditions is met, checking them in one polling loop
+     *
+     * @param message message in case none of the conditions was met after waiting
+     * @param timeout condition timeout in seconds
+     * @param conditions conditions
+     * @return result of the first met condition
+     */
+    public static Object any(String message, int timeout, ExpectedCondition<?>... conditions) {
+        return getWait(message, timeout).until(driver -> {
+            for (ExpectedCondition<?> condition : conditions) {
+                Object result = condition.apply(driver);
+                if (isMet(result)) {
+                    return result;
+                }
+            }
+            return null;
+        });
+    }
+
+    private static boolean isMet(Object result) {
+        return result != null && !Boolean.FALSE.equals(result);
+    }
+
+    /**
+     * Each wait gets its own instance, so a wait nested in a condition does not change
+     * the message or the polling delay of the outer one
+     */
+    private static FluentWait<WebDriver> getWait(String message, int timeout) {
+        WebDriver driver = Environment.getDriverService().getDriver();
+        Backoff backoff = new Backoff();
+        return new FluentWait<>(driver, CLOCK, duration -> Thread.sleep(backoff.next()))
+                .withTimeout(Duration.ofSeconds(timeout))
+                .pollingEvery(Duration.ofMillis(backoff.getMax()))
+                .ignoreAll(IGNORED_EXCEPTIONS)
+                .withMessage(message);
+    }
+
+    static List<Class<? extends Throwable>> loadIgnoredExceptions(String... names) {
+        List<Class<? extends Throwable>> exceptions = new ArrayList<>();
+        for (String name : names) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                exceptions.add(Class.forName(name.trim()).asSubclass(Throwable.class));
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new AutotestError("Wrong exception class in wait.ignored.exceptions: " + name, e);
+            }
+        }
+        return exceptions;
     }
 }
\ No newline at end of file
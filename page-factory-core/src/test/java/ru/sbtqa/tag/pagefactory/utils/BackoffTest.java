@@ -0,0 +1,33 @@
+package ru.sbtqa.tag.pagefactory.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BackoffTest {
+
+    @Test
+    public void delayGrowsUpToMaxTest() {
+        Backoff backoff = new Backoff(50, 300, 2);
+        assertEquals(50, backoff.next());
+        assertEquals(100, backoff.next());
+        assertEquals(200, backoff.next());
+        assertEquals(300, backoff.next());
+        assertEquals(300, backoff.next());
+    }
+
+    @Test
+    public void wrongValuesAreClampedTest() {
+        Backoff backoff = new Backoff(0, -1, 0.5);
+        assertEquals(1, backoff.next());
+        assertEquals(1, backoff.next());
+        assertEquals(1, backoff.getMax());
+    }
+
+    @Test
+    public void delayDoesNotShrinkTest() {
+        Backoff backoff = new Backoff(10, 100, Double.NaN);
+        assertEquals(10, backoff.next());
+        assertEquals(10, backoff.next());
+    }
+}
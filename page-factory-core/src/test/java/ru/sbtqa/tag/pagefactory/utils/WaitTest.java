@@ -0,0 +1,145 @@
+package ru.sbtqa.tag.pagefactory.utils;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import ru.sbtqa.tag.pagefactory.drivers.DriverService;
+import ru.sbtqa.tag.pagefactory.environment.Environment;
+import ru.sbtqa.tag.qautils.errors.AutotestError;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WaitTest {
+
+    private static final String MESSAGE = "Conditions are not met";
+
+    private static DriverService previous;
+
+    @BeforeClass
+    public static void setUp() {
+        previous = Environment.getDriverService();
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(WaitTest.class.getClassLoader(),
+                new Class[]{WebDriver.class}, (proxy, method, args) -> null);
+        Environment.setDriverService(new DriverService() {
+            @Override
+            public void mountDriver() {
+            }
+
+            @Override
+            public void demountDriver() {
+            }
+
+            @Override
+            public <T extends WebDriver> T getDriver() {
+                return (T) driver;
+            }
+
+            @Override
+            public boolean isDriverEmpty() {
+                return false;
+            }
+        });
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        Environment.setDriverService(previous);
+    }
+
+    @Test
+    public void allWaitsForConditionsMetTogetherTest() {
+        AtomicInteger polls = new AtomicInteger();
+        ExpectedCondition<Boolean> first = driver -> polls.incrementAndGet() >= 2;
+        ExpectedCondition<Boolean> second = driver -> polls.get() >= 3;
+        Wait.all(MESSAGE, 5, first, second);
+        assertEquals(3, polls.get());
+    }
+
+    @Test
+    public void allFailsForConditionsMetOneAtATimeTest() {
+        AtomicInteger polls = new AtomicInteger();
+        ExpectedCondition<Boolean> odd = driver -> polls.incrementAndGet() % 2 == 1;
+        ExpectedCondition<Boolean> even = driver -> polls.get() % 2 == 0;
+        assertTimeout(() -> Wait.all(MESSAGE, 1, odd, even));
+    }
+
+    @Test
+    public void anyReturnsResultOfMetConditionTest() {
+        AtomicInteger polls = new AtomicInteger();
+        ExpectedCondition<String> never = driver -> null;
+        ExpectedCondition<String> later = driver -> polls.incrementAndGet() > 2 ? "met" : null;
+        assertEquals("met", Wait.any(MESSAGE, 5, never, later));
+    }
+
+    @Test
+    public void anyFailsIfNoConditionIsMetTest() {
+        ExpectedCondition<Boolean> never = driver -> false;
+        assertTimeout(() -> Wait.any(MESSAGE, 1, never, never));
+    }
+
+    @Test
+    public void ignoredExceptionsAreRetriedTest() {
+        AtomicInteger polls = new AtomicInteger();
+        Wait.wait(driver -> {
+            if (polls.incrementAndGet() < 3) {
+                throw new NoSuchElementException("Not yet");
+            }
+            return true;
+        }, MESSAGE, 5);
+        assertEquals(3, polls.get());
+    }
+
+    @Test
+    public void otherExceptionsAreThrownTest() {
+        AtomicInteger polls = new AtomicInteger();
+        try {
+            Wait.wait(driver -> {
+                polls.incrementAndGet();
+                throw new StaleElementReferenceException("Stale");
+            }, MESSAGE, 5);
+            fail("Exception that is not ignored is swallowed");
+        } catch (StaleElementReferenceException e) {
+            assertEquals(1, polls.get());
+        }
+    }
+
+    @Test
+    public void loadIgnoredExceptionsTest() {
+        List<Class<? extends Throwable>> exceptions = Wait.loadIgnoredExceptions(
+                " org.openqa.selenium.NotFoundException ", "", "org.openqa.selenium.StaleElementReferenceException");
+        assertEquals(asList(NotFoundException.class, StaleElementReferenceException.class), exceptions);
+        assertEquals(singletonList(NotFoundException.class), Wait.loadIgnoredExceptions("org.openqa.selenium.NotFoundException"));
+    }
+
+    @Test(expected = AutotestError.class)
+    public void loadMissingIgnoredExceptionTest() {
+        Wait.loadIgnoredExceptions("org.openqa.selenium.MissingException");
+    }
+
+    @Test(expected = AutotestError.class)
+    public void loadNotExceptionClassTest() {
+        Wait.loadIgnoredExceptions("java.lang.String");
+    }
+
+    private static void assertTimeout(Runnable wait) {
+        try {
+            wait.run();
+            fail("Wait did not time out");
+        } catch (TimeoutException e) {
+            assertTrue("Timeout message is lost: " + e.getMessage(), e.getMessage().contains(MESSAGE));
+        }
+    }
+}
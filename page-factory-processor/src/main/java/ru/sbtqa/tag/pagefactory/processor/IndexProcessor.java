@@ -0,0 +1,158 @@
+package ru.sbtqa.tag.pagefactory.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import ru.sbtqa.tag.pagefactory.Page;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitle;
+import ru.sbtqa.tag.pagefactory.annotations.ActionTitles;
+import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
+import ru.sbtqa.tag.pagefactory.annotations.PageEntry;
+import ru.sbtqa.tag.pagefactory.annotations.rest.Endpoint;
+
+/**
+ * Collects top level classes implementing {@link Page}, annotated with
+ * {@link PageEntry} or containing {@link ElementTitle}, {@link ActionTitle}
+ * members into {@link #PAGES_INDEX} and classes annotated with
+ * {@link Endpoint} into {@link #ENDPOINTS_INDEX}.
+ * Page and endpoint managers read these resources instead of scanning the
+ * class path.
+ * <p>
+ * Each index is a list of binary class names, one per line. Entries of an
+ * index left by a previous (incremental) compilation are kept unless their
+ * class no longer exists or was recompiled without the annotations.
+ */
+public class IndexProcessor extends AbstractProcessor {
+
+    public static final String PAGES_INDEX = "META-INF/page-factory/pages.index";
+    public static final String ENDPOINTS_INDEX = "META-INF/page-factory/endpoints.index";
+
+    private static final Set<Class<? extends Annotation>> PAGE_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            PageEntry.class, ElementTitle.class, ActionTitle.class, ActionTitles.class));
+
+    private final Set<String> pages = new TreeSet<>();
+    private final Set<String> endpoints = new TreeSet<>();
+    private final Set<String> compiled = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // pages without annotations are identified by their type, so every class is processed
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex(PAGES_INDEX, pages);
+            writeIndex(ENDPOINTS_INDEX, endpoints);
+        } else {
+            TypeElement page = processingEnv.getElementUtils().getTypeElement(Page.class.getCanonicalName());
+            for (Element element : roundEnv.getRootElements()) {
+                if (element.getKind().isClass() || element.getKind().isInterface()) {
+                    String className = processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+                    compiled.add(className);
+                    if (element.getKind().isClass() && page != null && isSubtype(element, page)) {
+                        pages.add(className);
+                    }
+                }
+            }
+            for (Class<? extends Annotation> annotation : PAGE_ANNOTATIONS) {
+                collect(roundEnv, annotation, pages);
+            }
+            collect(roundEnv, Endpoint.class, endpoints);
+        }
+        return false;
+    }
+
+    private void collect(RoundEnvironment roundEnv, Class<? extends Annotation> annotation, Set<String> index) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            TypeElement topLevelClass = getTopLevelClass(element);
+            if (topLevelClass != null) {
+                index.add(processingEnv.getElementUtils().getBinaryName(topLevelClass).toString());
+            }
+        }
+    }
+
+    private boolean isSubtype(Element element, TypeElement type) {
+        Types types = processingEnv.getTypeUtils();
+        return types.isSubtype(types.erasure(element.asType()), types.erasure(type.asType()));
+    }
+
+    private TypeElement getTopLevelClass(Element element) {
+        Element current = element;
+        while (current.getEnclosingElement() != null
+                && current.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            current = current.getEnclosingElement();
+        }
+        return current.getKind().isClass() ? (TypeElement) current : null;
+    }
+
+    private void writeIndex(String location, Set<String> index) {
+        Filer filer = processingEnv.getFiler();
+        Set<String> previous = readPreviousIndex(filer, location);
+        for (String className : previous) {
+            if (!compiled.contains(className) && processingEnv.getElementUtils().getTypeElement(className) != null) {
+                index.add(className);
+            }
+        }
+        if (index.isEmpty() && previous.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", location);
+            try (Writer writer = resource.openWriter()) {
+                for (String className : index) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write index '" + location + "': " + ex.getMessage());
+        }
+    }
+
+    private Set<String> readPreviousIndex(Filer filer, String location) {
+        Set<String> previous = new TreeSet<>();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", location);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        previous.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            // There is no index from previous compilation
+        }
+        return previous;
+    }
+}
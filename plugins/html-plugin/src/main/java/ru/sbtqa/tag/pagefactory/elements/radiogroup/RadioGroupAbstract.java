@@ -4,10 +4,14 @@ import java.util.List;
 import java.util.stream.Collectors;
 import org.openqa.selenium.WebElement;
 import ru.sbtqa.tag.pagefactory.elements.select.SelectValue;
+import ru.sbtqa.tag.pagefactory.exceptions.ElementDisabledError;
+import ru.sbtqa.tag.pagefactory.exceptions.ElementNotFoundException;
+import ru.sbtqa.tag.pagefactory.transformer.enums.SearchStrategy;
+import ru.sbtqa.tag.pagefactory.utils.ElementState;
 import ru.sbtqa.tag.pagefactory.web.utils.ElementUtils;
 import ru.yandex.qatools.htmlelements.element.Button;
 import ru.yandex.qatools.htmlelements.element.TypifiedElement;
-import static ru.sbtqa.tag.pagefactory.web.utils.ElementUtils.clickOnElemenByText;
+import static java.lang.String.format;
 
 public abstract class RadioGroupAbstract extends TypifiedElement implements SelectValue {
 
@@ -23,7 +27,36 @@ public abstract class RadioGroupAbstract extends TypifiedElement implements Sele
      */
     @Override
     public void selectByValue(String value) {
-        clickOnElemenByText(getButtons(), value);
+        List<? extends Button> buttons = getButtons();
+        List<ElementState> states = ElementState.read(buttons);
+        int index = indexOf(buttons, states, value);
+        if (index < 0) {
+            throw new ElementNotFoundException(format("Element with text \"%s\" not found.", value));
+        }
+        if (!states.get(index).isEnabled()) {
+            throw new ElementDisabledError(format("Element with text '%s' is disabled.", value));
+        }
+        buttons.get(index).click();
+    }
+
+    /**
+     * Searches for a button on the texts read by one script call. The buttons are asked for
+     * their texts one by one if their class overrides {@link TypifiedElement#getText()},
+     * or if the script found nothing, since its whitespaces may differ from the driver ones
+     */
+    private int indexOf(List<? extends Button> buttons, List<ElementState> states, String value) {
+        if (!ElementState.overridesText(buttons, TypifiedElement.class)) {
+            int index = ElementState.indexOf(states, value, SearchStrategy.EQUALS, false);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        for (int i = 0; i < buttons.size(); i++) {
+            if (value.equals(buttons.get(i).getText())) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -48,11 +81,16 @@ public abstract class RadioGroupAbstract extends TypifiedElement implements Sele
      * @return Returns the text of the selected button. If none of the buttons is selected, it will return an empty string
      */
     public String getSelectedValue() {
-        return getButtons().stream()
-                .filter(Button::isSelected)
-                .map(Button::getText)
-                .findFirst()
-                .orElse("");
+        List<? extends Button> buttons = getButtons();
+        List<ElementState> states = ElementState.read(buttons);
+        for (int i = 0; i < states.size(); i++) {
+            if (states.get(i).isSelected()) {
+                return ElementState.overridesText(buttons, TypifiedElement.class)
+                        ? buttons.get(i).getText()
+                        : states.get(i).getText();
+            }
+        }
+        return "";
     }
 
     /**
@@ -61,8 +99,8 @@ public abstract class RadioGroupAbstract extends TypifiedElement implements Sele
      * @return Returns {@code true} if group has the selected value, else - {@code false}
      */
     public boolean hasSelectedValue() {
-        return getButtons().stream()
-                .anyMatch(Button::isSelected);
+        return ElementState.read(getButtons()).stream()
+                .anyMatch(ElementState::isSelected);
     }
 
     /**
@@ -71,7 +109,12 @@ public abstract class RadioGroupAbstract extends TypifiedElement implements Sele
      * @return Returns the text ​​of the radio group
      */
     public List<String> getValues() {
-        return getButtons().stream().map(WebElement::getText)
+        List<? extends Button> buttons = getButtons();
+        if (ElementState.overridesText(buttons, TypifiedElement.class)) {
+            return buttons.stream().map(Button::getText)
+                    .collect(Collectors.toList());
+        }
+        return ElementState.read(buttons).stream().map(ElementState::getText)
                 .collect(Collectors.toList());
     }
 }
@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.pagefactory.elements.BaseElement;
 import ru.sbtqa.tag.pagefactory.environment.Environment;
 import ru.sbtqa.tag.pagefactory.transformer.enums.SearchStrategy;
+import ru.sbtqa.tag.pagefactory.utils.ElementState;
 import ru.sbtqa.tag.pagefactory.web.utils.ElementUtils;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
 import ru.yandex.qatools.htmlelements.element.TypifiedElement;
@@ -72,10 +73,11 @@ public abstract class SelectAbstract extends TypifiedElement implements Select {
      */
     public List<String> getOptionValues() {
         open();
-        Assert.assertFalse(NOT_FOUND_OPTION_ERROR, getOptions().isEmpty());
-        List<String> result = getOptions().stream()
-                .map(BaseElement::getText)
-                .collect(Collectors.toList());
+        List<? extends BaseElement> options = getOptions();
+        Assert.assertFalse(NOT_FOUND_OPTION_ERROR, options.isEmpty());
+        List<String> result = ElementState.overridesText(options, BaseElement.class)
+                ? options.stream().map(BaseElement::getText).collect(Collectors.toList())
+                : ElementState.read(options).stream().map(ElementState::getComplexText).collect(Collectors.toList());
         close();
         return result;
     }
@@ -100,16 +102,17 @@ public abstract class SelectAbstract extends TypifiedElement implements Select {
      */
     public void selectByValue(String value, SearchStrategy strategy) {
         open();
-        for (BaseElement option : getOptions()) {
-            if (strategy.equals(SearchStrategy.EQUALS) ? value.equals(option.getText()) : option.getText().contains(value)) {
-                if (!option.isEnabled()) {
-                    throw new AutotestError(String.format(ERROR_DISABLED_TEMPLATE, option.getText()));
-                }
-                option.click();
-                return;
-            }
+        List<? extends BaseElement> options = getOptions();
+        List<ElementState> states = ElementState.read(options);
+        int index = indexOf(options, states, value, strategy);
+        if (index < 0) {
+            throw new AutotestError("Option '" + value + "' not found");
         }
-        throw new AutotestError("Option '" + value + "' not found");
+        BaseElement option = options.get(index);
+        if (!states.get(index).isEnabled()) {
+            throw new AutotestError(String.format(ERROR_DISABLED_TEMPLATE, option.getText()));
+        }
+        option.click();
     }
 
     /**
@@ -166,16 +169,30 @@ public abstract class SelectAbstract extends TypifiedElement implements Select {
      */
     public int getIdByValue(String value, SearchStrategy strategy) {
         open();
-        List<? extends BaseElement> listOp = getOptions();
-        int listSize = listOp.size();
-        for (int i = 0; i < listSize; i++) {
-            String optionText = listOp.get(i).getText();
+        List<? extends BaseElement> options = getOptions();
+        int index = indexOf(options, ElementState.read(options), value, strategy);
+        close();
+        return index;
+    }
+
+    /**
+     * Searches for an option on the texts read by one script call. The options are asked for
+     * their texts one by one if their class overrides {@link BaseElement#getText()},
+     * or if the script found nothing, since its whitespaces may differ from the driver ones
+     */
+    private int indexOf(List<? extends BaseElement> options, List<ElementState> states, String value, SearchStrategy strategy) {
+        if (!ElementState.overridesText(options, BaseElement.class)) {
+            int index = ElementState.indexOf(states, value, strategy, true);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        for (int i = 0; i < options.size(); i++) {
+            String optionText = options.get(i).getText();
             if (strategy.equals(SearchStrategy.EQUALS) ? value.equals(optionText) : optionText.contains(value)) {
-                close();
                 return i;
             }
         }
-        close();
         return -1;
     }
 
@@ -20,6 +20,7 @@ import ru.sbtqa.tag.pagefactory.exception.TableRowNotFoundError;
 import ru.sbtqa.tag.pagefactory.exceptions.ElementDescriptionException;
 import ru.sbtqa.tag.pagefactory.exceptions.ElementNotFoundException;
 import ru.sbtqa.tag.pagefactory.find.HtmlFindUtils;
+import ru.sbtqa.tag.pagefactory.html.properties.HtmlConfiguration;
 import ru.sbtqa.tag.pagefactory.transformer.enums.SearchStrategy;
 import ru.sbtqa.tag.pagefactory.web.utils.ElementUtils;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
@@ -37,6 +38,9 @@ public abstract class TableAbstract extends TypifiedElement {
     private static final String TEXT_XPATH = "//*" + TEXT_PART_XPATH_TEMPLATE;
 
     private static final Logger LOG = LoggerFactory.getLogger(TableAbstract.class);
+    private static final HtmlConfiguration PROPERTIES = HtmlConfiguration.create();
+
+    private final TableHeaders headers = new TableHeaders();
 
     public TableAbstract(WebElement wrappedElement) {
         super(wrappedElement);
@@ -56,6 +60,33 @@ public abstract class TableAbstract extends TypifiedElement {
         throw new UnsupportedOperationException("No path to group in table");
     }
 
+    /**
+     * Whether searches in the table are done on its {@link TableSnapshot} instead of
+     * xpath requests to the driver. Only clicks on found cells touch the page in this mode.
+     * <p>
+     * Cells of a row are the elements found by {@link #getColumnsXpath()} inside the
+     * elements found by {@link #getRowsXpath()}, cells outside the rows are ignored.
+     * The search fails if none of the cells is inside the rows
+     *
+     * @return {@code true} if the snapshot mode is enabled by {@code table.snapshot.enabled}
+     */
+    protected boolean isSnapshotMode() {
+        return PROPERTIES.getTableSnapshotEnabled();
+    }
+
+    /**
+     * Reads texts of the table headers and cells by a single script call
+     *
+     * @return table snapshot
+     */
+    public TableSnapshot getSnapshot() {
+        return getSnapshot(getWrappedElement());
+    }
+
+    protected TableSnapshot getSnapshot(WebElement context) {
+        return TableSnapshot.take(context, getHeadersXpath(), getRowsXpath(), getColumnsXpath());
+    }
+
     /**
      * Returns a column of a table by its index
      *
@@ -240,6 +271,18 @@ public abstract class TableAbstract extends TypifiedElement {
     }
 
     private void selectRow(WebElement context, int columnIndex, String cellText, int serialNumber, boolean doubleClick) {
+        if (isSnapshotMode()) {
+            TableSnapshot snapshot = getSnapshot(context);
+            int foundValueCounter = 0;
+            for (int rowIndex = 0; rowIndex < snapshot.getRowCount(); rowIndex++) {
+                if (snapshot.hasText(rowIndex, columnIndex, cellText, SearchStrategy.EQUALS)
+                        && ++foundValueCounter == serialNumber) {
+                    click(getCell(context, rowIndex, columnIndex), doubleClick);
+                    return;
+                }
+            }
+            throw new TableNotContainTextError(cellText, columnIndex);
+        }
         List<WebElement> cells = context.findElements(By.xpath(getColumnXpath(columnIndex) + format(TEXT_XPATH, cellText)));
         try {
             click(ElementUtils.getElementByIndex(cells, serialNumber - 1), doubleClick);
@@ -348,6 +391,23 @@ public abstract class TableAbstract extends TypifiedElement {
     }
 
     private void selectRow(WebElement context, String cellText, SearchStrategy searchStrategy, int serialNumber, boolean doubleClick) {
+        if (isSnapshotMode()) {
+            TableSnapshot snapshot = getSnapshot(context);
+            int foundValueCounter = 0;
+            for (int rowIndex = 0; rowIndex < snapshot.getRowCount(); rowIndex++) {
+                for (int columnIndex = 0; columnIndex < snapshot.getCellCount(rowIndex); columnIndex++) {
+                    if (snapshot.hasText(rowIndex, columnIndex, cellText, searchStrategy)
+                            && ++foundValueCounter == serialNumber) {
+                        if (snapshot.isComposite(rowIndex, columnIndex)) {
+                            LOG.warn("Cell text is complex. A match was found among one of the cell elements");
+                        }
+                        click(getCell(context, rowIndex, columnIndex), doubleClick);
+                        return;
+                    }
+                }
+            }
+            throw new TableNotContainTextError(cellText);
+        }
         String searchFragment = getSearchFragment(cellText, searchStrategy);
         List<WebElement> cells = context.findElements(By.xpath(getColumnsXpath() + searchFragment));
 
@@ -444,6 +504,16 @@ public abstract class TableAbstract extends TypifiedElement {
     }
 
     private boolean hasText(WebElement context, String columnName, String cellText, SearchStrategy strategy) {
+        if (isSnapshotMode()) {
+            int columnIndex = getColumnIndexByName(columnName);
+            TableSnapshot snapshot = getSnapshot(context);
+            for (int rowIndex = 0; rowIndex < snapshot.getRowCount(); rowIndex++) {
+                if (snapshot.hasText(rowIndex, columnIndex, cellText, strategy)) {
+                    return true;
+                }
+            }
+            return false;
+        }
         String cellsXpath = getColumnXpath(getColumnIndexByName(columnName)) + getSearchFragment(cellText, strategy);
         List<WebElement> cells = context.findElements(By.xpath(cellsXpath));
         return !cells.isEmpty();
@@ -477,6 +547,17 @@ public abstract class TableAbstract extends TypifiedElement {
     }
 
     private boolean hasText(WebElement context, String cellText, SearchStrategy strategy) {
+        if (isSnapshotMode()) {
+            TableSnapshot snapshot = getSnapshot(context);
+            for (int rowIndex = 0; rowIndex < snapshot.getRowCount(); rowIndex++) {
+                for (int columnIndex = 0; columnIndex < snapshot.getCellCount(rowIndex); columnIndex++) {
+                    if (snapshot.hasText(rowIndex, columnIndex, cellText, strategy)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
         String cellsXpath = getColumnsXpath() + getSearchFragment(cellText, strategy);
         List<WebElement> cells = context.findElements(By.xpath(cellsXpath));
         return !cells.isEmpty();
@@ -512,6 +593,14 @@ public abstract class TableAbstract extends TypifiedElement {
     }
 
     private void checkRow(WebElement context, String columnName, String cellText, Map<String, String> dataMap) {
+        if (isSnapshotMode()) {
+            TableSnapshot snapshot = getSnapshot(context);
+            int rowIndex = getRowIndex(snapshot, getColumnIndexByName(columnName), cellText);
+            for (Map.Entry<String, String> entry : dataMap.entrySet()) {
+                checkCell(snapshot, rowIndex, getColumnNumberByName(entry.getKey()), entry.getValue());
+            }
+            return;
+        }
         int columnNumber = getColumnIndexByName(columnName);
         WebElement row = getRowAsCells(context, columnNumber, cellText);
         for (Map.Entry<String, String> entry : dataMap.entrySet()) {
@@ -551,6 +640,14 @@ public abstract class TableAbstract extends TypifiedElement {
     }
 
     private void checkRow(WebElement context, int columnNumber, String cellText, Map<Integer, String> dataMap) {
+        if (isSnapshotMode()) {
+            TableSnapshot snapshot = getSnapshot(context);
+            int rowIndex = getRowIndex(snapshot, columnNumber - 1, cellText);
+            for (Map.Entry<Integer, String> entry : dataMap.entrySet()) {
+                checkCell(snapshot, rowIndex, entry.getKey(), entry.getValue());
+            }
+            return;
+        }
         WebElement row = getRowAsCells(context, columnNumber - 1, cellText);
         for (Map.Entry<Integer, String> entry : dataMap.entrySet()) {
             checkCell(row, entry.getKey(), entry.getValue());
@@ -569,6 +666,29 @@ public abstract class TableAbstract extends TypifiedElement {
         }
     }
 
+    private void checkCell(TableSnapshot snapshot, int rowIndex, int columnNumber, String expectedCellText) {
+        if (!snapshot.hasText(rowIndex, columnNumber - 1, expectedCellText, SearchStrategy.EQUALS)) {
+            String actualCellText = snapshot.getText(rowIndex, columnNumber - 1);
+            if (actualCellText == null) {
+                throw new AutotestError("Could not find column number " + columnNumber);
+            }
+            throw new AutotestError(format("The value of the column with the number '%s' does not match " +
+                    "expected. Expected: '%s'. Actual: '%s'", columnNumber, expectedCellText, actualCellText));
+        }
+    }
+
+    private int getRowIndex(TableSnapshot snapshot, int columnIndex, String cellText) {
+        for (int rowIndex = 0; rowIndex < snapshot.getRowCount(); rowIndex++) {
+            if (snapshot.hasText(rowIndex, columnIndex, cellText, SearchStrategy.EQUALS)) {
+                if (snapshot.isComposite(rowIndex, columnIndex)) {
+                    LOG.warn("Cell text is complex. A match was found among one of the cell elements");
+                }
+                return rowIndex;
+            }
+        }
+        throw new TableNotContainTextError(cellText);
+    }
+
     private WebElement getRowAsCells(WebElement context, int columnIndex, String cellText) {
         String searchFragment = getSearchFragment(cellText, SearchStrategy.EQUALS);
         List<WebElement> cells = context.findElements(By.xpath(getColumnXpath(columnIndex) + searchFragment));
@@ -634,7 +754,8 @@ public abstract class TableAbstract extends TypifiedElement {
      * @return line index
      */
     public int getRowIndex(int columnIndex, String cellText, int serialNumber) {
-        List<String> column = ElementUtils.getElementsText(getColumn(columnIndex));
+        List<String> column = isSnapshotMode() ? getSnapshot().getColumnTexts(columnIndex)
+                : ElementUtils.getElementsText(getColumn(columnIndex));
         int foundValueCounter = 1;
         boolean isFound = false;
 
@@ -776,17 +897,13 @@ public abstract class TableAbstract extends TypifiedElement {
 
 
     /**
-     * Get column index by name
+     * Get column index by name. Header names are cached until the headers change
      *
      * @param columnName column name
      * @return column index
      */
     public int getColumnIndexByName(String columnName) {
-        List<String> headers = findElements(By.xpath(getHeadersXpath())).stream()
-                .map(WebElement::getText)
-                .collect(Collectors.toList());
-
-        int index = headers.indexOf(columnName);
+        int index = headers.getIndex(getWrappedElement(), getHeadersXpath(), columnName);
 
         if (index < 0) {
             throw new AutotestError("No header found in table: " + columnName);
@@ -804,6 +921,22 @@ public abstract class TableAbstract extends TypifiedElement {
         buttons.get(0).click();
     }
 
+    /**
+     * Finds a cell on the page, in the same way as {@link TableSnapshot} reads it
+     *
+     * @param context table or group element
+     * @param rowIndex row index
+     * @param columnIndex index of the cell in the row
+     * @return cell element
+     */
+    protected WebElement getCell(WebElement context, int rowIndex, int columnIndex) {
+        WebElement cell = TableSnapshot.findCell(context, getRowsXpath(), getColumnsXpath(), rowIndex, columnIndex);
+        if (cell == null) {
+            throw new TableRowNotFoundError(rowIndex);
+        }
+        return cell;
+    }
+
     protected void click(WebElement cell, boolean isDouble) {
         if (isDouble) {
             ElementUtils.doubleClick(cell);
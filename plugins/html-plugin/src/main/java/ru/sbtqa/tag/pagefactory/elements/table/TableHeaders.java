@@ -0,0 +1,55 @@
+package ru.sbtqa.tag.pagefactory.elements.table;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import ru.sbtqa.tag.pagefactory.environment.Environment;
+
+/**
+ * Column indices of a table by header names.
+ * <p>
+ * The browser computes a fingerprint of the headers (their count and a hash of
+ * their texts) on every lookup and sends the header texts only when the
+ * fingerprint differs from the cached one
+ */
+class TableHeaders {
+
+    private static final String HEADERS_SCRIPT = ""
+            + "var result = document.evaluate(arguments[1], arguments[0], null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "var texts = [];"
+            + "var hash = 0;"
+            + "for (var i = 0; i < result.snapshotLength; i++) {"
+            + "  var element = result.snapshotItem(i);"
+            + "  var text = (element.innerText || element.textContent || '').trim();"
+            + "  texts.push(text);"
+            + "  for (var j = 0; j < text.length; j++) { hash = (hash * 31 + text.charCodeAt(j)) | 0; }"
+            + "  hash = (hash * 31 + 1) | 0;"
+            + "}"
+            + "var fingerprint = result.snapshotLength + ':' + hash;"
+            + "return fingerprint === arguments[2] ? [fingerprint] : [fingerprint].concat(texts);";
+
+    private String fingerprint;
+    private Map<String, Integer> indices = new HashMap<>();
+
+    /**
+     * @param context table element
+     * @param headersXpath xpath to the table headers
+     * @param columnName header name
+     * @return index of the first column with the header, or -1 if there is no such column
+     */
+    synchronized int getIndex(WebElement context, String headersXpath, String columnName) {
+        JavascriptExecutor js = Environment.getDriverService().getDriver();
+        List<String> result = (List<String>) js.executeScript(HEADERS_SCRIPT, context, headersXpath, fingerprint);
+        if (!result.get(0).equals(fingerprint)) {
+            Map<String, Integer> headerIndices = new HashMap<>();
+            for (int index = 1; index < result.size(); index++) {
+                headerIndices.putIfAbsent(result.get(index), index - 1);
+            }
+            indices = headerIndices;
+            fingerprint = result.get(0);
+        }
+        return indices.getOrDefault(columnName, -1);
+    }
+}
@@ -0,0 +1,187 @@
+package ru.sbtqa.tag.pagefactory.elements.table;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import ru.sbtqa.tag.pagefactory.environment.Environment;
+import ru.sbtqa.tag.pagefactory.transformer.enums.SearchStrategy;
+import ru.sbtqa.tag.qautils.errors.AutotestError;
+
+import static java.lang.String.format;
+
+/**
+ * Texts of table headers and cells, read from the browser by a single script call.
+ * <p>
+ * Every cell is stored as its visible text and the texts of elements inside it,
+ * so searches by cell text can be done without requests to the driver
+ */
+public class TableSnapshot {
+
+    private static final String CELLS_FUNCTIONS = ""
+            + "var context = arguments[0];"
+            + "function nodes(xpath, root) {"
+            + "  var result = document.evaluate(xpath, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  var found = [];"
+            + "  for (var i = 0; i < result.snapshotLength; i++) { found.push(result.snapshotItem(i)); }"
+            + "  return found;"
+            + "}"
+            + "function rowCells(rowsXpath, columnsXpath) {"
+            + "  var rows = nodes(rowsXpath, context);"
+            + "  var indices = new Map();"
+            + "  rows.forEach(function (row, index) { indices.set(row, index); });"
+            + "  var cells = rows.map(function () { return []; });"
+            + "  var found = nodes(columnsXpath, context);"
+            + "  var orphans = 0;"
+            + "  found.forEach(function (cell) {"
+            + "    var node = cell;"
+            + "    while (node && !indices.has(node)) { node = node.parentNode; }"
+            + "    if (node) { cells[indices.get(node)].push(cell); } else { orphans++; }"
+            + "  });"
+            + "  return {cells: cells, found: found.length, orphans: orphans};"
+            + "}";
+
+    private static final String SNAPSHOT_SCRIPT = CELLS_FUNCTIONS
+            + "function text(element) { return (element.innerText || element.textContent || '').trim(); }"
+            + "function cell(td) {"
+            + "  var texts = [text(td)];"
+            + "  var walker = document.createTreeWalker(td, NodeFilter.SHOW_TEXT, null, false);"
+            + "  for (var node = walker.nextNode(); node; node = walker.nextNode()) {"
+            + "    if (node.parentNode !== td && node.nodeValue.trim()) { texts.push(node.nodeValue); }"
+            + "  }"
+            + "  return texts;"
+            + "}"
+            + "var rows = rowCells(arguments[2], arguments[3]);"
+            + "return {"
+            + "  headers: nodes(arguments[1], context).map(text),"
+            + "  rows: rows.cells.map(function (cells) { return cells.map(cell); }),"
+            + "  found: rows.found,"
+            + "  orphans: rows.orphans"
+            + "};";
+
+    private static final String CELL_SCRIPT = CELLS_FUNCTIONS
+            + "var row = rowCells(arguments[1], arguments[2]).cells[arguments[3]];"
+            + "return row && row[arguments[4]] || null;";
+
+    private final List<String> headers;
+    private final List<List<List<String>>> rows;
+
+    private TableSnapshot(List<String> headers, List<List<List<String>>> rows) {
+        this.headers = headers;
+        this.rows = rows;
+    }
+
+    /**
+     * Read texts of the table. Cells of a row are the elements found by the
+     * columns xpath inside the row, in document order
+     *
+     * @param context table or group element
+     * @param headersXpath xpath to the table headers
+     * @param rowsXpath xpath to the table rows
+     * @param columnsXpath xpath to the table cells, like {@link TableAbstract#getColumnsXpath()}
+     * @return snapshot of the table
+     * @throws AutotestError if cells are found, but none of them is inside the rows
+     */
+    public static TableSnapshot take(WebElement context, String headersXpath, String rowsXpath, String columnsXpath) {
+        JavascriptExecutor js = Environment.getDriverService().getDriver();
+        Map<String, Object> snapshot = (Map<String, Object>) js.executeScript(SNAPSHOT_SCRIPT, context, headersXpath, rowsXpath, columnsXpath);
+        long found = (Long) snapshot.get("found");
+        if (found > 0 && found == (Long) snapshot.get("orphans")) {
+            throw new AutotestError(format("Cells found by xpath '%s' are not inside rows found by xpath '%s', "
+                    + "so the table can not be searched in the snapshot mode", columnsXpath, rowsXpath));
+        }
+        return new TableSnapshot(asList(snapshot.get("headers")), asList(snapshot.get("rows")));
+    }
+
+    /**
+     * Find a cell on the page, in the same way as {@link #take} reads it
+     *
+     * @param context table or group element
+     * @param rowsXpath xpath to the table rows
+     * @param columnsXpath xpath to the table cells
+     * @param rowIndex row index
+     * @param columnIndex index of the cell in the row
+     * @return cell element, or {@code null} if there is no such cell
+     */
+    public static WebElement findCell(WebElement context, String rowsXpath, String columnsXpath, int rowIndex, int columnIndex) {
+        JavascriptExecutor js = Environment.getDriverService().getDriver();
+        return (WebElement) js.executeScript(CELL_SCRIPT, context, rowsXpath, columnsXpath, rowIndex, columnIndex);
+    }
+
+    private static <T> List<T> asList(Object value) {
+        return value == null ? Collections.emptyList() : (List<T>) value;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public int getCellCount(int rowIndex) {
+        return rows.get(rowIndex).size();
+    }
+
+    /**
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return visible text of the cell, or {@code null} if there is no such cell
+     */
+    public String getText(int rowIndex, int columnIndex) {
+        List<List<String>> row = rows.get(rowIndex);
+        return columnIndex < row.size() ? row.get(columnIndex).get(0) : null;
+    }
+
+    /**
+     * Returns texts of a column, like {@link TableAbstract#getColumn(int)} does
+     *
+     * @param columnIndex column index
+     * @return texts of the column cells in rows that have such a column
+     */
+    public List<String> getColumnTexts(int columnIndex) {
+        List<String> column = new ArrayList<>();
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            String text = getText(rowIndex, columnIndex);
+            if (text != null) {
+                column.add(text);
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Checks that one of the elements inside the cell has the text
+     *
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @param text search text
+     * @param strategy search strategy
+     * @return {@code true} if the text was found in the cell
+     */
+    public boolean hasText(int rowIndex, int columnIndex, String text, SearchStrategy strategy) {
+        List<List<String>> row = rows.get(rowIndex);
+        if (columnIndex >= row.size()) {
+            return false;
+        }
+        List<String> texts = row.get(columnIndex);
+        for (int index = 1; index < texts.size(); index++) {
+            if (strategy == SearchStrategy.EQUALS ? texts.get(index).equals(text) : texts.get(index).contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return {@code true} if the cell text consists of several elements
+     */
+    public boolean isComposite(int rowIndex, int columnIndex) {
+        return rows.get(rowIndex).get(columnIndex).size() > 2;
+    }
+}
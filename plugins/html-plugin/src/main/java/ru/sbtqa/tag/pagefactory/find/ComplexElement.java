@@ -1,6 +1,5 @@
 package ru.sbtqa.tag.pagefactory.find;
 
-import java.util.Arrays;
 import java.util.List;
 import org.openqa.selenium.WebElement;
 
@@ -9,7 +8,7 @@ public class ComplexElement<T extends WebElement> {
     static final String ELEMENT_SEPARATOR = "->";
     private T element;
     private int currentPosition = 0;
-    private final List<String> elementPath;
+    private final ElementPath elementPath;
     private final String fullElementPath;
     private final boolean waitAppear;
     private boolean isPresent = true;
@@ -17,7 +16,7 @@ public class ComplexElement<T extends WebElement> {
     public ComplexElement(T element, String fullElementPath, boolean waitAppear) {
         this.element = element;
         this.fullElementPath = fullElementPath;
-        this.elementPath = Arrays.asList(fullElementPath.split(ELEMENT_SEPARATOR));
+        this.elementPath = ElementPath.compile(fullElementPath);
         this.waitAppear = waitAppear;
     }
 
@@ -43,11 +42,15 @@ public class ComplexElement<T extends WebElement> {
     }
 
     public List<String> getElementPath() {
+        return elementPath.getNames();
+    }
+
+    public ElementPath getCompiledPath() {
         return elementPath;
     }
 
     public String getCurrentName() {
-        return elementPath.get(currentPosition);
+        return elementPath.getNames().get(currentPosition);
     }
 
     public String getFullElementPath() {
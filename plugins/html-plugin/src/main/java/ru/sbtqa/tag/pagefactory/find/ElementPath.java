@@ -0,0 +1,110 @@
+package ru.sbtqa.tag.pagefactory.find;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
+import ru.sbtqa.tag.qautils.reflect.FieldUtilsExt;
+
+import static ru.sbtqa.tag.pagefactory.find.ComplexElement.ELEMENT_SEPARATOR;
+
+/**
+ * Compiled element path like {@code Block->List->3}. A path is parsed once
+ * and reused by all subsequent searches. Fields with {@link ElementTitle} are
+ * resolved once per class of a page or block
+ */
+public class ElementPath {
+
+    private static final int NOT_AN_INDEX = -1;
+    private static final Map<String, ElementPath> PATHS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private final List<String> names;
+    private final int[] indices;
+
+    private ElementPath(String path) {
+        this.names = Collections.unmodifiableList(Arrays.asList(path.split(ELEMENT_SEPARATOR)));
+        this.indices = new int[names.size()];
+        for (int position = 0; position < names.size(); position++) {
+            indices[position] = toIndex(names.get(position));
+        }
+    }
+
+    /**
+     * Get compiled representation of the path
+     *
+     * @param path element name or path separated with {@code ->}
+     * @return compiled path
+     */
+    public static ElementPath compile(String path) {
+        ElementPath elementPath = PATHS.get(path);
+        if (elementPath == null) {
+            elementPath = PATHS.computeIfAbsent(path, ElementPath::new);
+        }
+        return elementPath;
+    }
+
+    /**
+     * Get a field of the class annotated with {@link ElementTitle} of the
+     * given value
+     *
+     * @param clazz class of a page or block
+     * @param title element title
+     * @return accessible field or {@code null} if there is no such element
+     */
+    public static Field getField(Class<?> clazz, String title) {
+        Map<String, Field> fields = FIELDS.get(clazz);
+        if (fields == null) {
+            fields = FIELDS.computeIfAbsent(clazz, ElementPath::getTitledFields);
+        }
+        return fields.get(title);
+    }
+
+    private static Map<String, Field> getTitledFields(Class<?> clazz) {
+        Map<String, Field> fields = new HashMap<>();
+        for (Field field : FieldUtilsExt.getFieldsListWithAnnotation(clazz, ElementTitle.class)) {
+            field.setAccessible(true);
+            fields.putIfAbsent(field.getAnnotation(ElementTitle.class).value(), field);
+        }
+        return fields;
+    }
+
+    private static int toIndex(String name) {
+        if (name.isEmpty() || !name.chars().allMatch(Character::isDigit)) {
+            return NOT_AN_INDEX;
+        }
+        try {
+            return Integer.parseInt(name);
+        } catch (NumberFormatException ex) {
+            return NOT_AN_INDEX;
+        }
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * @param position position in the path
+     * @return whether the path segment is a list index
+     */
+    public boolean isIndex(int position) {
+        return indices[position] != NOT_AN_INDEX;
+    }
+
+    /**
+     * @param position position in the path
+     * @return one-based list index of the path segment
+     */
+    public int getIndex(int position) {
+        return indices[position];
+    }
+}
@@ -0,0 +1,106 @@
+package ru.sbtqa.tag.pagefactory.find;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds element type by its class attribute. All type attributes are matched
+ * as substrings of the class attribute in a single pass (Aho-Corasick
+ * automaton). When several type attributes match, the one that ends first in
+ * the class attribute wins, and the longest of them on a tie
+ */
+public class ElementTypeMatcher {
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * @param types type attribute to element type map
+     */
+    public ElementTypeMatcher(Map<String, Class> types) {
+        nodes.add(new Node());
+        for (Map.Entry<String, Class> type : types.entrySet()) {
+            add(type.getKey(), type.getValue());
+        }
+        buildFailureLinks();
+    }
+
+    private void add(String attribute, Class type) {
+        if (attribute.isEmpty()) {
+            return;
+        }
+        int current = 0;
+        for (char symbol : attribute.toCharArray()) {
+            Integer next = nodes.get(current).next.get(symbol);
+            if (next == null) {
+                next = nodes.size();
+                nodes.add(new Node());
+                nodes.get(current).next.put(symbol, next);
+            }
+            current = next;
+        }
+        nodes.get(current).type = type;
+    }
+
+    private void buildFailureLinks() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (Integer child : nodes.get(0).next.values()) {
+            Node node = nodes.get(child);
+            node.output = node.type != null ? child : -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = nodes.get(queue.poll());
+            for (Map.Entry<Character, Integer> edge : node.next.entrySet()) {
+                Node child = nodes.get(edge.getValue());
+                child.fail = transition(node.fail, edge.getKey());
+                child.output = child.type != null ? edge.getValue() : nodes.get(child.fail).output;
+                queue.add(edge.getValue());
+            }
+        }
+    }
+
+    private int transition(int state, char symbol) {
+        int current = state;
+        while (true) {
+            Integer next = nodes.get(current).next.get(symbol);
+            if (next != null) {
+                return next;
+            }
+            if (current == 0) {
+                return 0;
+            }
+            current = nodes.get(current).fail;
+        }
+    }
+
+    /**
+     * @param classAttribute value of the element class attribute
+     * @return matched element type or {@code null} if nothing matches
+     */
+    public Class match(String classAttribute) {
+        if (classAttribute == null) {
+            return null;
+        }
+        int state = 0;
+        for (int index = 0; index < classAttribute.length(); index++) {
+            state = transition(state, classAttribute.charAt(index));
+            int output = nodes.get(state).output;
+            if (output != -1) {
+                return nodes.get(output).type;
+            }
+        }
+        return null;
+    }
+
+    private static class Node {
+
+        private final Map<Character, Integer> next = new HashMap<>();
+        private int fail = 0;
+        private int output = -1;
+        private Class type;
+    }
+}
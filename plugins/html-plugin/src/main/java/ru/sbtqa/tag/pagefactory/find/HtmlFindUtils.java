@@ -2,16 +2,17 @@ package ru.sbtqa.tag.pagefactory.find;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import ru.sbtqa.tag.datajack.TestDataProvider;
 import ru.sbtqa.tag.datajack.exceptions.DataException;
 import ru.sbtqa.tag.datajack.providers.json.JsonDataProvider;
 import ru.sbtqa.tag.pagefactory.Page;
-import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
 import ru.sbtqa.tag.pagefactory.context.PageContext;
 import ru.sbtqa.tag.pagefactory.environment.Environment;
 import ru.sbtqa.tag.pagefactory.exception.ElementSearchError;
@@ -23,7 +24,6 @@ import ru.sbtqa.tag.pagefactory.utils.PageUtils;
 import ru.sbtqa.tag.pagefactory.utils.TestIdUtils;
 import ru.sbtqa.tag.pagefactory.utils.Wait;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
-import ru.sbtqa.tag.qautils.reflect.FieldUtilsExt;
 import static java.lang.String.format;
 import static ru.sbtqa.tag.pagefactory.find.ComplexElement.ELEMENT_SEPARATOR;
 import static ru.sbtqa.tag.pagefactory.utils.HtmlElementUtils.createElementWithCustomType;
@@ -34,6 +34,16 @@ import static ru.yandex.qatools.htmlelements.utils.HtmlElementUtils.isTypifiedEl
 public class HtmlFindUtils extends FindUtils {
 
     private static final HtmlConfiguration PROPERTIES = HtmlConfiguration.create();
+    private static final String SUBTREE_CLASSES_SCRIPT = "var classes = [];"
+            + "var walker = document.createTreeWalker(arguments[0], NodeFilter.SHOW_ELEMENT, null, false);"
+            + "for (var node = walker.currentNode; node; node = walker.nextNode()) {"
+            + "  classes.push(node.getAttribute('class') || '');"
+            + "}"
+            + "return classes;";
+
+    private static volatile Map<String, Class> elementTypes;
+
+    private volatile ElementTypeMatcher elementTypeMatcher;
 
     @Override
     public <T> T getElementByTitle(Page page, String title) {
@@ -397,26 +407,18 @@ public class HtmlFindUtils extends FindUtils {
         Page page = PageContext.getCurrentPage();
         Class clazz = element == null ? page.getClass() : element.getClass();
 
-        for (Field field : FieldUtilsExt.getFieldsListWithAnnotation(clazz, ElementTitle.class)) {
-            field.setAccessible(true);
-            if (field.getAnnotation(ElementTitle.class).value().equals(elementName)) {
-                return field;
-            }
-        }
-        return null;
+        return ElementPath.getField(clazz, elementName);
     }
 
     protected static void findElementOfList(List<WebElement> list, ComplexElement currentElement) {
         int position = currentElement.getCurrentPosition();
 
         int index = 0;
-        List<String> elementPath = currentElement.getElementPath();
+        ElementPath elementPath = currentElement.getCompiledPath();
 
         if (position + 1 < elementPath.size()) {
-            String nextParam = elementPath.get(position + 1);
-            boolean isNumeric = nextParam.chars().allMatch(Character::isDigit);
-            if (isNumeric) {
-                index = Integer.parseInt(elementPath.get(position + 1)) - 1;
+            if (elementPath.isIndex(position + 1)) {
+                index = elementPath.getIndex(position + 1) - 1;
                 currentElement.setCurrentPosition(position + 1);
             } else {
                 LOG.info("The parameter following the list is not an index. Index list element: 0.");
@@ -444,11 +446,36 @@ public class HtmlFindUtils extends FindUtils {
     }
 
     /**
-     * Specifies a type map: type attribute, type. Data is taken from the json file specified in the 'ui.types' parameter
+     * Specifies a type map: type attribute, type. Data is taken from the json file specified in the 'ui.types' parameter.
+     * The file is read once, each call returns a new copy of the map
      *
      * @return Returns a type map
      */
     public Map<String, Class> getElementTypesMap() {
+        Map<String, Class> types = elementTypes;
+        if (types == null) {
+            synchronized (HtmlFindUtils.class) {
+                types = elementTypes;
+                if (types == null) {
+                    types = loadElementTypesMap();
+                    elementTypes = types;
+                }
+            }
+        }
+        return new HashMap<>(types);
+    }
+
+    /**
+     * Matcher of the types returned by {@link #getElementTypesMap()}, built once per instance
+     */
+    private ElementTypeMatcher getElementTypeMatcher() {
+        if (elementTypeMatcher == null) {
+            elementTypeMatcher = new ElementTypeMatcher(getElementTypesMap());
+        }
+        return elementTypeMatcher;
+    }
+
+    private static Map<String, Class> loadElementTypesMap() {
         Map<String, Class> elements = new HashMap<>();
         try {
             String types = PROPERTIES.geUiTypes();
@@ -461,7 +488,7 @@ public class HtmlFindUtils extends FindUtils {
         } catch (DataException | ClassNotFoundException ex) {
             throw new AutotestError("Error while generating element search types.", ex);
         }
-        return elements;
+        return Collections.unmodifiableMap(elements);
     }
 
     private void findByTestId(ComplexElement element) {
@@ -473,22 +500,38 @@ public class HtmlFindUtils extends FindUtils {
         }
     }
 
+    /**
+     * Finds element type by class attributes of the element and its
+     * descendants, in document order. Class attributes of the whole subtree
+     * are fetched in a single script call when the driver supports it
+     */
     private Class findType(WebElement element) {
-        Map<String, Class> elements = getElementTypesMap();
-        Class typeCandidate = WebElement.class;
-        String elementClass = element.getAttribute("class");
-        for (String elementString : elements.keySet()) {
-            if (elementClass.contains(elementString)) {
-                return elements.get(elementString);
+        ElementTypeMatcher matcher = getElementTypeMatcher();
+        Object driver = Environment.getDriverService().getDriver();
+        if (driver instanceof JavascriptExecutor) {
+            List<String> classes = (List<String>) ((JavascriptExecutor) driver).executeScript(SUBTREE_CLASSES_SCRIPT, element);
+            for (String elementClass : classes) {
+                Class type = matcher.match(elementClass);
+                if (type != null) {
+                    return type;
+                }
             }
+            return WebElement.class;
+        }
+        return findType(element, matcher);
+    }
+
+    private Class findType(WebElement element, ElementTypeMatcher matcher) {
+        Class type = matcher.match(element.getAttribute("class"));
+        if (type != null) {
+            return type;
         }
-        List<WebElement> children = element.findElements(By.xpath("./*"));
-        for (WebElement child : children) {
-            typeCandidate = findType(child);
+        for (WebElement child : element.findElements(By.xpath("./*"))) {
+            Class typeCandidate = findType(child, matcher);
             if (typeCandidate != WebElement.class) {
                 return typeCandidate;
             }
         }
-        return typeCandidate;
+        return WebElement.class;
     }
 }
@@ -23,6 +23,10 @@ public interface HtmlConfiguration extends WebConfiguration {
     @DefaultValue("false")
     boolean getVerifyPage();
 
+    @Key("table.snapshot.enabled")
+    @DefaultValue("false")
+    boolean getTableSnapshotEnabled();
+
     static HtmlConfiguration create() {
         return Configuration.init(HtmlConfiguration.class);
     }
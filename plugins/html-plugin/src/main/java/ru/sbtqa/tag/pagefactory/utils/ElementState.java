@@ -0,0 +1,153 @@
+package ru.sbtqa.tag.pagefactory.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import ru.sbtqa.tag.pagefactory.environment.Environment;
+import ru.sbtqa.tag.pagefactory.transformer.enums.SearchStrategy;
+
+/**
+ * Texts and states of a list of elements (options, radio buttons and so on),
+ * read by a single script call instead of several driver requests per element.
+ * Whitespaces of the texts are normalized like the driver does it
+ */
+public class ElementState {
+
+    private static final String STATES_SCRIPT = ""
+            + "function text(element) {"
+            + "  return (element.innerText || element.textContent || '').replace(/\\u00a0/g, ' ').split('\\n')"
+            + "      .map(function (line) { return line.replace(/[ \\t\\r\\f\\v]+/g, ' ').trim(); }).join('\\n').trim();"
+            + "}"
+            + "function complexText(element) {"
+            + "  var elementText = text(element);"
+            + "  var result = document.evaluate('.//*[text()]', element, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  var value = '';"
+            + "  for (var i = 0; i < result.snapshotLength; i++) { value += text(result.snapshotItem(i)) + ' '; }"
+            + "  if (result.snapshotLength === 0 || elementText.length - value.length >= 0) { value = elementText; }"
+            + "  return value.trim();"
+            + "}"
+            // the same rules as the driver uses: form controls are disabled by their own attribute,
+            // by a disabled optgroup or select they are in, or by a disabled fieldset outside its first legend
+            + "function enabled(element) {"
+            + "  if (!/^(BUTTON|INPUT|OPTGROUP|OPTION|SELECT|TEXTAREA)$/.test(element.tagName)) { return true; }"
+            + "  if (element.disabled) { return false; }"
+            + "  var parent = element.parentNode;"
+            + "  if (parent && (parent.tagName === 'OPTGROUP' || parent.tagName === 'SELECT')) { return enabled(parent); }"
+            + "  for (var e = element; e.parentNode && e.parentNode.nodeType === 1; e = e.parentNode) {"
+            + "    if (e.parentNode.tagName === 'FIELDSET' && e.parentNode.disabled) {"
+            + "      if (e.tagName !== 'LEGEND') { return false; }"
+            + "      for (var sibling = e.previousElementSibling; sibling; sibling = sibling.previousElementSibling) {"
+            + "        if (sibling.tagName === 'LEGEND') { return false; }"
+            + "      }"
+            + "    }"
+            + "  }"
+            + "  return true;"
+            + "}"
+            + "return Array.prototype.map.call(arguments[0], function (element) {"
+            + "  return [text(element), complexText(element), enabled(element), !!(element.selected || element.checked)];"
+            + "});";
+
+    private final String text;
+    private final String complexText;
+    private final boolean enabled;
+    private final boolean selected;
+
+    private ElementState(List<Object> state) {
+        this.text = (String) state.get(0);
+        this.complexText = (String) state.get(1);
+        this.enabled = (Boolean) state.get(2);
+        this.selected = (Boolean) state.get(3);
+    }
+
+    /**
+     * Read texts and states of elements
+     *
+     * @param elements elements or typified elements
+     * @param <T> type of elements
+     * @return states in the order of elements
+     */
+    public static <T extends WebElement> List<ElementState> read(List<T> elements) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<WebElement> webElements = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            webElements.add(HtmlElementUtils.getWebElement(element));
+        }
+
+        JavascriptExecutor js = Environment.getDriverService().getDriver();
+        List<List<Object>> result = (List<List<Object>>) js.executeScript(STATES_SCRIPT, webElements);
+        List<ElementState> states = new ArrayList<>(result.size());
+        for (List<Object> state : result) {
+            states.add(new ElementState(state));
+        }
+        return states;
+    }
+
+    /**
+     * Whether the elements get their texts in their own way, so the texts read by the script
+     * can differ from theirs and should be asked from the elements themselves
+     *
+     * @param elements elements or typified elements
+     * @param textClass class whose {@code getText()} the script reproduces
+     * @return {@code true} if a class of the elements overrides {@code getText()} of the text class
+     */
+    public static boolean overridesText(List<? extends WebElement> elements, Class<?> textClass) {
+        for (WebElement element : elements) {
+            try {
+                if (element.getClass().getMethod("getText").getDeclaringClass() != textClass) {
+                    return true;
+                }
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the first element with the text
+     *
+     * @param states states of elements
+     * @param value text to search
+     * @param strategy search strategy:
+     * {@code SearchStrategy.EQUALS} - by exact match
+     * {@code SearchStrategy.CONTAINS} - by partial match
+     * @param complex {@code true} to compare the text like {@link HtmlElementUtils#getTextOfComplexElement} gets it,
+     * {@code false} to compare the text like {@link WebElement#getText()} gets it
+     * @return index of the element, or -1 if there is no such element
+     */
+    public static int indexOf(List<ElementState> states, String value, SearchStrategy strategy, boolean complex) {
+        for (int index = 0; index < states.size(); index++) {
+            String stateText = complex ? states.get(index).getComplexText() : states.get(index).getText();
+            if (strategy.equals(SearchStrategy.EQUALS) ? value.equals(stateText) : stateText.contains(value)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return text of the element, like {@link WebElement#getText()} returns it
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return text of the element, like {@link HtmlElementUtils#getTextOfComplexElement} returns it
+     */
+    public String getComplexText() {
+        return complexText;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+}
@@ -12,6 +12,8 @@ import ru.sbtqa.tag.pagefactory.environment.Environment;
 import ru.sbtqa.tag.pagefactory.exception.IncorrectElementTypeError;
 import ru.sbtqa.tag.pagefactory.find.HtmlFindUtils;
 import ru.sbtqa.tag.pagefactory.pages.htmlelements.blocks.MenuBlock;
+import ru.sbtqa.tag.pagefactory.pages.htmlelements.elements.CitySelect;
+import ru.sbtqa.tag.pagefactory.pages.htmlelements.elements.HostingRadioGroup;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
 import ru.yandex.qatools.htmlelements.element.Button;
 import ru.yandex.qatools.htmlelements.element.CheckBox;
@@ -40,6 +42,14 @@ public class ContactPage extends HTMLPage {
     @ElementTitle(value = "state")
     private Select stateSelect;
 
+    @FindBy(xpath = "//select[@name='state']")
+    @ElementTitle(value = "city")
+    private CitySelect citySelect;
+
+    @FindBy(xpath = "//input[@name='hosting']/ancestor::div[@class='radio']")
+    @ElementTitle(value = "hosting")
+    private HostingRadioGroup hosting;
+
     @FindBy(xpath = "//input[@name='hosting'][@value='yes']")
     @ElementTitle(value = "hosting yes")
     private Radio hostingYes;
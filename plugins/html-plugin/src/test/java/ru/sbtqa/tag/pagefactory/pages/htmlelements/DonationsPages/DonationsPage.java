@@ -0,0 +1,24 @@
+package ru.sbtqa.tag.pagefactory.pages.htmlelements.DonationsPages;
+
+import org.openqa.selenium.support.FindBy;
+import ru.sbtqa.tag.pagefactory.HTMLPage;
+import ru.sbtqa.tag.pagefactory.annotations.ElementTitle;
+import ru.sbtqa.tag.pagefactory.annotations.PageEntry;
+import ru.sbtqa.tag.pagefactory.pages.htmlelements.blocks.MenuBlock;
+import ru.sbtqa.tag.pagefactory.pages.htmlelements.elements.DonationsTable;
+import ru.sbtqa.tag.pagefactory.pages.htmlelements.elements.SnapshotDonationsTable;
+
+@PageEntry(title = "DonationsY")
+public class DonationsPage extends HTMLPage {
+
+    @ElementTitle(value = "menu")
+    private MenuBlock menu;
+
+    @FindBy(xpath = "//table")
+    @ElementTitle(value = "donations")
+    private DonationsTable donations;
+
+    @FindBy(xpath = "//table")
+    @ElementTitle(value = "donations snapshot")
+    private SnapshotDonationsTable donationsSnapshot;
+}
@@ -18,6 +18,10 @@ public class MenuBlock extends HtmlElement {
     @ElementTitle("Home")
     @FindBy(xpath = ".//a[text()='Home']")
     private Link home;
+
+    @ElementTitle("Donations")
+    @FindBy(xpath = ".//a[text()='Donations']")
+    private Link donations;
     
     @ActionTitle("go to page")
     public void goToPage(String pageName) {
@@ -28,6 +32,9 @@ public class MenuBlock extends HtmlElement {
             case "contact":
                 contact.click();
                 break;
+            case "donations":
+                donations.click();
+                break;
             default:
                 throw new AutotestError(format("Tab '%s' not found.", pageName));
         }
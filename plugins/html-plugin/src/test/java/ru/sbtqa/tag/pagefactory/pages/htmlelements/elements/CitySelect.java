@@ -0,0 +1,42 @@
+package ru.sbtqa.tag.pagefactory.pages.htmlelements.elements;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import ru.sbtqa.tag.pagefactory.elements.BaseElement;
+import ru.sbtqa.tag.pagefactory.elements.select.SelectAbstract;
+
+public class CitySelect extends SelectAbstract {
+
+    public CitySelect(WebElement wrappedElement) {
+        super(wrappedElement);
+    }
+
+    @Override
+    public WebElement getOpenButton() {
+        return getWrappedElement();
+    }
+
+    @Override
+    public String getVisibleBlockXPath() {
+        return ".";
+    }
+
+    @Override
+    public List<BaseElement> getOptions() {
+        return getWrappedElement().findElements(By.xpath(".//option")).stream()
+                .map(BaseElement::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BaseElement getSelectedOption() {
+        return new BaseElement(new org.openqa.selenium.support.ui.Select(getWrappedElement()).getFirstSelectedOption());
+    }
+
+    @Override
+    public WebElement getPlaceholder() {
+        return getWrappedElement().findElement(By.xpath(".//option[@disabled]"));
+    }
+}
@@ -0,0 +1,26 @@
+package ru.sbtqa.tag.pagefactory.pages.htmlelements.elements;
+
+import org.openqa.selenium.WebElement;
+import ru.sbtqa.tag.pagefactory.elements.table.TableAbstract;
+
+public class DonationsTable extends TableAbstract {
+
+    public DonationsTable(WebElement wrappedElement) {
+        super(wrappedElement);
+    }
+
+    @Override
+    public String getColumnsXpath() {
+        return ".//tbody/tr/td";
+    }
+
+    @Override
+    public String getRowsXpath() {
+        return ".//tbody/tr";
+    }
+
+    @Override
+    public String getHeadersXpath() {
+        return ".//thead//th";
+    }
+}
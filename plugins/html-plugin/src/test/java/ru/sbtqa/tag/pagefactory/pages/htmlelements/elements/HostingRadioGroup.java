@@ -0,0 +1,21 @@
+package ru.sbtqa.tag.pagefactory.pages.htmlelements.elements;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import ru.sbtqa.tag.pagefactory.elements.radiogroup.RadioGroupAbstract;
+
+public class HostingRadioGroup extends RadioGroupAbstract {
+
+    public HostingRadioGroup(WebElement wrappedElement) {
+        super(wrappedElement);
+    }
+
+    @Override
+    public List<LabeledRadio> getButtons() {
+        return getWrappedElement().findElements(By.xpath(".//input[@type='radio']")).stream()
+                .map(LabeledRadio::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,20 @@
+package ru.sbtqa.tag.pagefactory.pages.htmlelements.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import ru.yandex.qatools.htmlelements.element.Button;
+
+/**
+ * Radio button which text is the text of its label
+ */
+public class LabeledRadio extends Button {
+
+    public LabeledRadio(WebElement wrappedElement) {
+        super(wrappedElement);
+    }
+
+    @Override
+    public String getText() {
+        return getWrappedElement().findElement(By.xpath("./ancestor::label")).getText();
+    }
+}
@@ -0,0 +1,15 @@
+package ru.sbtqa.tag.pagefactory.pages.htmlelements.elements;
+
+import org.openqa.selenium.WebElement;
+
+public class SnapshotDonationsTable extends DonationsTable {
+
+    public SnapshotDonationsTable(WebElement wrappedElement) {
+        super(wrappedElement);
+    }
+
+    @Override
+    protected boolean isSnapshotMode() {
+        return true;
+    }
+}
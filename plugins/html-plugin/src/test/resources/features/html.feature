@@ -26,5 +26,18 @@ Feature: Check html yandex elements functional + ActionTitles mechanism
 
     * user selects the checkbox "checkbox"
 
+    * in the dropdown "city" option "Saint-Petersburg" selected
+    * user selects option "Moscow" from "city"
+    * in the dropdown "city" option "Moscow" selected
+    * user selects option from "city" overlap with "Novo"
+    * in the dropdown "city" option "Novosibirsk" selected
+
+    * no value selected in radio group "hosting"
+    * user marks a control "hosting" by value "To be"
+    * in radio group "hosting" is marked value "To be"
+    * user marks a control "hosting" by value "Not"
+    * in radio group "hosting" is marked value "Not"
+    * in radio group "hosting" is not marked value "To be"
+
     * user in block "menu" (go to page) with a parameter "Home"
     * user is on the page "MainY"
\ No newline at end of file
@@ -0,0 +1,26 @@
+#language = en
+Feature: Check search in tables
+
+  @html
+  Scenario Outline: table search check in "<table>"
+
+    * user is on the page "MainY"
+    * user in block "menu" (go to page) with a parameter "Donations"
+    * user is on the page "DonationsY"
+
+    * user checks table in the table "<table>" any row of the column "Payment type" contains text "VISA"
+    * user checks table in the table "<table>" in any row of the column "Amount" there is a text strictly equal "$40"
+    * user checks table in the table "<table>" any cell contains text "Good luck"
+    * user checks table row cells "<table>" for value "MasterCard" of the column "Payment type"
+      | №      | 5          |
+      | Date   | 31.05.2017 |
+      | Amount | $40        |
+
+    * user selects in the table "<table>" row with the value "Cash" in the column "Payment type"
+    * user selects row by text in any cell "For evolution" in the table "<table>"
+    * user selects row number "3" in the table "<table>"
+
+    Examples:
+      | table              |
+      | donations          |
+      | donations snapshot |
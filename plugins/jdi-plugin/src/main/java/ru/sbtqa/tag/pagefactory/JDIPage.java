@@ -5,6 +5,7 @@ import ru.sbtqa.tag.pagefactory.environment.Environment;
 import ru.sbtqa.tag.pagefactory.find.FindUtils;
 import ru.sbtqa.tag.pagefactory.jdi.actions.JdiPageActions;
 import ru.sbtqa.tag.pagefactory.jdi.utils.JDIUtils;
+import ru.sbtqa.tag.pagefactory.reflection.ElementTitlesIndex;
 
 /**
  * Inherit your jdi page objects from this class
@@ -19,5 +20,6 @@ public abstract class JDIPage implements Page {
         Environment.setFindUtils(findUtils);
 
         JDIUtils.initElementsOnPage(this);
+        ElementTitlesIndex.index(this);
     }
 }
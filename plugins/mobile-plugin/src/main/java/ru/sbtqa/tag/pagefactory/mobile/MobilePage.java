@@ -9,6 +9,7 @@ import ru.sbtqa.tag.pagefactory.find.FindUtils;
 import ru.sbtqa.tag.pagefactory.mobile.actions.MobilePageActions;
 import ru.sbtqa.tag.pagefactory.mobile.checks.MobilePageChecks;
 import ru.sbtqa.tag.pagefactory.mobile.junit.MobileSetupSteps;
+import ru.sbtqa.tag.pagefactory.reflection.ElementTitlesIndex;
 
 /**
  * Inherit your mobile page objects from this class
@@ -20,6 +21,7 @@ public abstract class MobilePage implements Page {
 
         MobileDriver driver =  Environment.getDriverService().getDriver();
         PageFactory.initElements(new AppiumFieldDecorator(driver), this);
+        ElementTitlesIndex.index(this);
 
         Environment.setPageActions(new MobilePageActions());
         Environment.setPageChecks(new MobilePageChecks());
@@ -1,23 +1,19 @@
 package ru.sbtqa.tag.api.manager;
 
-import com.google.common.reflect.ClassPath;
-import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashSet;
 import java.util.Set;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.api.EndpointEntry;
 import ru.sbtqa.tag.pagefactory.annotations.rest.Endpoint;
 import ru.sbtqa.tag.api.context.EndpointContext;
 import ru.sbtqa.tag.api.exception.RestPluginException;
 import ru.sbtqa.tag.api.properties.ApiConfiguration;
+import ru.sbtqa.tag.pagefactory.utils.ClassIndexUtils;
 import ru.sbtqa.tag.qautils.errors.AutotestError;
 
 public class EndpointManager {
 
-    private static final Logger LOG = LoggerFactory.getLogger(EndpointManager.class);
     private static final ApiConfiguration PROPERTIES = ApiConfiguration.create();
     private static final ThreadLocal<Set<Class<?>>> ENDPOINTS_CACHE = ThreadLocal.withInitial(HashSet::new);
 
@@ -71,15 +67,6 @@ public class EndpointManager {
     }
 
     public static void cacheEndpoints() {
-        ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        try {
-            Set<Class<?>> cache = new HashSet<>();
-            for (ClassPath.ClassInfo info : ClassPath.from(loader).getTopLevelClassesRecursive(PROPERTIES.getEndpointsPackage())) {
-                cache.add(info.load());
-            }
-            ENDPOINTS_CACHE.set(cache);
-        } catch (IOException ex) {
-            LOG.warn("Failed to shape class info set", ex);
-        }
+        ENDPOINTS_CACHE.set(ClassIndexUtils.getTopLevelClasses(ClassIndexUtils.ENDPOINTS_INDEX, PROPERTIES.getEndpointsPackage()));
     }
 }
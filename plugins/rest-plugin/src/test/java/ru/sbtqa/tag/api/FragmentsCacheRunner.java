@@ -0,0 +1,14 @@
+package ru.sbtqa.tag.api;
+
+import cucumber.api.CucumberOptions;
+import cucumber.api.junit.Cucumber;
+import org.junit.runner.RunWith;
+
+@RunWith(Cucumber.class)
+@CucumberOptions(
+        glue = {"ru.sbtqa.tag.stepdefs", "ru.sbtqa.tag.api.steps"},
+        features = {"src/test/resources/cached-features"},
+        plugin = {"pretty"}
+)
+public class FragmentsCacheRunner {
+}
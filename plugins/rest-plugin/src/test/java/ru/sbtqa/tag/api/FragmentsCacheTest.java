@@ -0,0 +1,74 @@
+package ru.sbtqa.tag.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import ru.sbtqa.tag.pagefactory.properties.Configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FragmentsCacheTest {
+
+    private static final Path CACHE = Paths.get(Configuration.create().getFragmentsCachePath());
+
+    @Test
+    public void cachedFeaturesRunLikeExpandedOnes() throws IOException {
+        delete(CACHE);
+
+        assertSuccessful(JUnitCore.runClasses(FragmentsCacheRunner.class));
+        Map<Path, Object> cached = list(CACHE);
+        assertFalse("Expanded features are not cached", cached.isEmpty());
+
+        Path stale = Files.write(CACHE.resolve("stale.feature"), new byte[0]);
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(31, ChronoUnit.DAYS)));
+        Path unused = Files.write(CACHE.resolve("unused.feature"), new byte[0]);
+        cached.put(unused, key(unused));
+        assertSuccessful(JUnitCore.runClasses(FragmentsCacheRunner.class));
+        assertFalse("Stale cached feature is not deleted", Files.exists(stale));
+        assertEquals("Cached features are expanded again or deleted", cached, list(CACHE));
+    }
+
+    private static void assertSuccessful(Result result) {
+        assertTrue("Features are not run", result.getRunCount() > 0);
+        assertTrue(result.getFailures().toString(), result.wasSuccessful());
+    }
+
+    private static Map<Path, Object> list(Path directory) throws IOException {
+        Map<Path, Object> files = new HashMap<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                files.put(path, key(path));
+            }
+        }
+        return files;
+    }
+
+    // a rewritten feature is moved in place of the cached one and gets a new file key
+    private static Object key(Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (Files.exists(directory)) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package ru.sbtqa.tag.api;
+
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+import ru.sbtqa.tag.api.utils.WeaverMessages;
+
+public class WeavingTest {
+
+    @Test
+    public void classesAreWovenOnceTest() throws ClassNotFoundException {
+        Class.forName("ru.sbtqa.tag.stepdefs.en.CoreStepDefs");
+        Class.forName("ru.sbtqa.tag.stepdefs.ru.CoreStepDefs");
+        Class.forName("ru.sbtqa.tag.stepdefs.en.ApiStepDefs");
+        Class.forName("ru.sbtqa.tag.stepdefs.ru.ApiStepDefs");
+
+        Assert.assertEquals("The load-time weaver failed to define classes woven at compile time",
+                Collections.emptyList(), WeaverMessages.getLinkageErrors());
+    }
+}
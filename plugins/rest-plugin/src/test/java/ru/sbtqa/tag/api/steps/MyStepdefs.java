@@ -12,5 +12,10 @@ public class MyStepdefs {
     public void checkData(String brand, String year, String model) {
         Assert.assertEquals("BMW 3er 2014", format("%s %s %s", brand, model, year));
     }
+
+    @And("^doc string keeps indents of its lines$")
+    public void checkDocString(String docString) {
+        Assert.assertEquals("first line\n  indented line\n    more indented line\n\nlast line", docString);
+    }
 }
 
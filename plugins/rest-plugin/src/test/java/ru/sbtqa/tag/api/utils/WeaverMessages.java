@@ -0,0 +1,50 @@
+package ru.sbtqa.tag.api.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.aspectj.bridge.AbortException;
+import org.aspectj.bridge.IMessage;
+import org.aspectj.bridge.IMessageHandler;
+
+/**
+ * Prints warnings and errors of the load-time weaver like its default handler does,
+ * and remembers classes which the weaver failed to define
+ */
+public class WeaverMessages implements IMessageHandler {
+
+    private static final List<String> LINKAGE_ERRORS = Collections.synchronizedList(new ArrayList<>());
+
+    public static List<String> getLinkageErrors() {
+        synchronized (LINKAGE_ERRORS) {
+            return new ArrayList<>(LINKAGE_ERRORS);
+        }
+    }
+
+    @Override
+    public boolean handleMessage(IMessage message) throws AbortException {
+        if (isIgnoring(message.getKind())) {
+            return false;
+        }
+        for (Throwable cause = message.getThrown(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof LinkageError) {
+                LINKAGE_ERRORS.add(cause.getMessage());
+                break;
+            }
+        }
+        return SYSTEM_ERR.handleMessage(message);
+    }
+
+    @Override
+    public boolean isIgnoring(IMessage.Kind kind) {
+        return kind.isSameOrLessThan(IMessage.INFO);
+    }
+
+    @Override
+    public void dontIgnore(IMessage.Kind kind) {
+    }
+
+    @Override
+    public void ignore(IMessage.Kind kind) {
+    }
+}
@@ -0,0 +1,6 @@
+#language: en
+@fragments
+Feature: Fragments test
+
+  Scenario: Fragment with doc string
+    * user inserts fragment "doc string fragment"
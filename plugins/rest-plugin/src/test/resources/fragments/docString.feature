@@ -0,0 +1,14 @@
+#language: en
+@fragments
+Feature: doc string fragments
+
+  @fragment
+  Scenario: doc string fragment
+    * doc string keeps indents of its lines
+      """
+      first line
+        indented line
+          more indented line
+
+      last line
+      """
@@ -6,6 +6,7 @@ import org.openqa.selenium.support.pagefactory.FieldDecorator;
 import ru.sbtqa.tag.pagefactory.actions.PageActions;
 import ru.sbtqa.tag.pagefactory.checks.PageChecks;
 import ru.sbtqa.tag.pagefactory.environment.Environment;
+import ru.sbtqa.tag.pagefactory.reflection.ElementTitlesIndex;
 import ru.sbtqa.tag.pagefactory.web.actions.WebPageActions;
 import ru.sbtqa.tag.pagefactory.web.checks.WebPageChecks;
 import ru.sbtqa.tag.pagefactory.web.junit.WebSetupSteps;
@@ -22,11 +23,13 @@ public abstract class WebPage implements Page {
         WebSetupSteps.initWeb();
 
         PageFactory.initElements((WebDriver) Environment.getDriverService().getDriver(), this);
+        ElementTitlesIndex.index(this);
         applyEnvironment();
     }
 
     public WebPage(FieldDecorator decorator) {
         PageFactory.initElements(decorator, this);
+        ElementTitlesIndex.index(this);
         applyEnvironment();
     }
 
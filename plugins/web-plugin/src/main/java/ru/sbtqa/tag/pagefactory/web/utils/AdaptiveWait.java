@@ -0,0 +1,126 @@
+package ru.sbtqa.tag.pagefactory.web.utils;
+
+import java.util.function.Supplier;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.sbtqa.tag.pagefactory.environment.Environment;
+import ru.sbtqa.tag.pagefactory.utils.Backoff;
+
+/**
+ * Waits without fixed sleeps: conditions are polled with the exponential
+ * {@link Backoff} configured by {@code wait.polling.*}, and browser conditions
+ * are awaited inside the browser by asynchronous scripts, which call back as
+ * soon as the condition is met.
+ * A script interrupted by the page unloading counts as the condition not met yet
+ */
+public class AdaptiveWait {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveWait.class);
+
+    private static final long SCRIPT_SLICE = 5000;
+
+    private static final String READY_STATE_SCRIPT = ""
+            + "var callback = arguments[arguments.length - 1];"
+            + "if (document.readyState === 'complete') { callback(true); return; }"
+            + "var done = false;"
+            + "function finish(result) { if (!done) { done = true; callback(result); } }"
+            + "document.addEventListener('readystatechange', function () {"
+            + "  if (document.readyState === 'complete') { finish(true); }"
+            + "});"
+            + "setTimeout(function () { finish(document.readyState === 'complete'); }, arguments[0]);";
+
+    private static final String TEXT_PRESENCE_SCRIPT = ""
+            + "var callback = arguments[arguments.length - 1];"
+            + "var text = arguments[1];"
+            + "var present = arguments[2];"
+            + "function matches() {"
+            + "  var body = document.body;"
+            + "  return !!body && (body.innerText || '').replace(/\\s+/g, '').indexOf(text) >= 0 === present;"
+            + "}"
+            + "if (matches()) { callback(true); return; }"
+            + "var done = false;"
+            + "var scheduled = false;"
+            + "var observer = new MutationObserver(function () {"
+            + "  if (scheduled) { return; }"
+            + "  scheduled = true;"
+            + "  setTimeout(function () { scheduled = false; if (matches()) { finish(true); } }, 0);"
+            + "});"
+            + "function finish(result) { if (!done) { done = true; observer.disconnect(); callback(result); } }"
+            + "observer.observe(document.documentElement, {childList: true, subtree: true, characterData: true, attributes: true});"
+            + "setTimeout(function () { finish(matches()); }, arguments[0]);";
+
+    private AdaptiveWait() {}
+
+    /**
+     * Poll the condition with exponential backoff
+     *
+     * @param condition condition returning {@code null} or {@code false} while it is not met
+     * @param timeout timeout in milliseconds
+     * @param <T> type of the condition result
+     * @return result of the condition, or {@code null} if it was not met during the timeout
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public static <T> T until(Supplier<T> condition, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        Backoff backoff = new Backoff();
+        while (true) {
+            T result = condition.get();
+            if (result != null && !Boolean.FALSE.equals(result)) {
+                return result;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            Thread.sleep(Math.min(backoff.next(), remaining));
+        }
+    }
+
+    /**
+     * Wait until the document is completely loaded
+     *
+     * @param timeout timeout in milliseconds
+     * @return {@code true} if the document was loaded during the timeout
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public static boolean pageToLoad(long timeout) throws InterruptedException {
+        return inBrowser(READY_STATE_SCRIPT, timeout);
+    }
+
+    /**
+     * Wait until the visible text of the page contains the text, or does not contain it.
+     * Whitespaces are ignored
+     *
+     * @param text text to search
+     * @param shouldTextBePresent whether the text should appear or disappear
+     * @param timeout timeout in milliseconds
+     * @return {@code true} if the text appeared (or disappeared) during the timeout
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public static boolean textPresence(String text, boolean shouldTextBePresent, long timeout) throws InterruptedException {
+        return inBrowser(TEXT_PRESENCE_SCRIPT, timeout, text.replaceAll("\\s+", ""), shouldTextBePresent);
+    }
+
+    private static boolean inBrowser(String script, long timeout, Object... args) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        return until(() -> {
+            long slice = Math.max(0, Math.min(deadline - System.currentTimeMillis(), SCRIPT_SLICE));
+            Object[] scriptArgs = new Object[args.length + 1];
+            scriptArgs[0] = slice;
+            System.arraycopy(args, 0, scriptArgs, 1, args.length);
+            try {
+                JavascriptExecutor js = Environment.getDriverService().getDriver();
+                return Boolean.TRUE.equals(js.executeAsyncScript(script, scriptArgs));
+            } catch (ScriptTimeoutException e) {
+                LOG.debug("Script timeout is shorter than the wait slice of {} ms", slice, e);
+                return false;
+            } catch (WebDriverException e) {
+                LOG.debug("Script did not finish, the page may be reloading", e);
+                return false;
+            }
+        }, timeout) != null;
+    }
+}
@@ -1,8 +1,6 @@
 package ru.sbtqa.tag.pagefactory.web.utils;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.sbtqa.tag.datajack.Stash;
@@ -23,19 +21,19 @@ public class WebWait extends Wait {
      * @throws WaitException in case if page didn't load
      */
     public static void waitForPageToLoad(boolean... stopRecursion) throws WaitException {
-        long timeoutTime = System.currentTimeMillis() + PROPERTIES.getTimeout() * 1000;
+        long timeoutTime = System.currentTimeMillis() + PROPERTIES.getTimeout() * 1000L;
         while (timeoutTime > System.currentTimeMillis()) {
             try {
-                if ("complete".equals(((JavascriptExecutor) Environment.getDriverService().getDriver()).executeScript("return document.readyState"))) {
+                if (AdaptiveWait.pageToLoad(timeoutTime - System.currentTimeMillis())) {
                     return;
                 }
-                Thread.sleep(1000);
             } catch (Exception | AssertionError e) {
                 LOG.debug("WebPage does not become to ready state", e);
                 Environment.getDriverService().getDriver().navigate().refresh();
                 LOG.debug("WebPage refreshed");
                 if ((stopRecursion.length == 0) || !stopRecursion[0]) {
                     waitForPageToLoad(true);
+                    return;
                 }
             }
         }
@@ -53,12 +51,8 @@ public class WebWait extends Wait {
     public static void waitForTextPresenceInPageSource(String text, boolean shouldTextBePresent) throws WaitException, InterruptedException {
         long timeoutTime = System.currentTimeMillis() + PROPERTIES.getTimeout() * 1000;
         Wait.presence(By.tagName("body"), "Element \"body\" did not appear after timeout");
-        while (timeoutTime > System.currentTimeMillis()) {
-            WebElement body = Environment.getDriverService().getDriver().findElement(By.tagName("body"));
-            if (body.getText().replaceAll("\\s+", "").contains(text.replaceAll("\\s+", "")) == shouldTextBePresent) {
-                return;
-            }
-            Thread.sleep(1000);
+        if (AdaptiveWait.textPresence(text, shouldTextBePresent, timeoutTime - System.currentTimeMillis())) {
+            return;
         }
         throw new WaitException("Timed out after '" + PROPERTIES.getTimeout() + "' seconds waiting for presence of '" + text + "' in page source");
     }
@@ -31,22 +31,22 @@ public class WindowHandles {
      * @throws WaitException in case if new window handle didn't find
      */
     public static String findNewWindowHandle(Set<String> existingHandles, int timeout) throws WaitException, InterruptedException {
-        long timeoutTime = System.currentTimeMillis() + timeout * 1000;
-
-        while (timeoutTime > System.currentTimeMillis()) {
+        String newHandle = AdaptiveWait.until(() -> {
             Set<String> currentHandles = Environment.getDriverService().getDriver().getWindowHandles();
 
-            if (currentHandles.size() != existingHandles.size()|| !currentHandles.equals(existingHandles)) {
+            if (currentHandles.size() != existingHandles.size() || !currentHandles.equals(existingHandles)) {
                 for (String currentHandle : currentHandles) {
                     if (!existingHandles.contains(currentHandle)) {
                         return currentHandle;
                     }
                 }
             }
+            return null;
+        }, timeout * 1000L);
 
-            Thread.sleep(1000);
+        if (newHandle != null) {
+            return newHandle;
         }
-
         throw new WaitException("Timed out after '" + timeout + "' seconds waiting for new modal window");
     }
 }
@@ -0,0 +1,38 @@
+package ru.sbtqa.tag.pagefactory.web.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveWaitTest {
+
+    @Test
+    public void untilReturnsResultOfMetConditionTest() throws InterruptedException {
+        AtomicInteger polls = new AtomicInteger();
+        assertEquals("met", AdaptiveWait.until(() -> polls.incrementAndGet() < 3 ? null : "met", 5000));
+        assertEquals(3, polls.get());
+    }
+
+    @Test
+    public void untilPollsFalseConditionTest() throws InterruptedException {
+        AtomicInteger polls = new AtomicInteger();
+        assertEquals(Boolean.TRUE, AdaptiveWait.until(() -> polls.incrementAndGet() >= 3, 5000));
+        assertEquals(3, polls.get());
+    }
+
+    @Test
+    public void untilReturnsNullOnTimeoutTest() throws InterruptedException {
+        AtomicInteger polls = new AtomicInteger();
+        long start = System.currentTimeMillis();
+        assertNull(AdaptiveWait.until(() -> {
+            polls.incrementAndGet();
+            return false;
+        }, 300));
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("Wait returned before the timeout: " + elapsed, elapsed >= 300);
+        assertTrue("Condition is not checked after the last delay", polls.get() >= 2);
+    }
+}